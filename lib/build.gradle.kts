@@ -22,6 +22,8 @@ import okhttp3.Request
 import okhttp3.internal.toHexString
 import org.jsoup.Connection
 import org.jsoup.Jsoup
+import java.io.BufferedOutputStream
+import java.io.DataOutputStream
 import java.util.stream.Collectors
 
 plugins {
@@ -39,7 +41,8 @@ repositories {
 }
 
 dependencies {
-    implementation("com.fasterxml.jackson.core:jackson-databind:2.15.2")
+    // Measures the memory of the emojis in the jmh benchmarks
+    jmh("org.openjdk.jol:jol-core:0.17")
 }
 
 testing {
@@ -89,6 +92,12 @@ jmh {
 //    jmhVersion.set("1.36") // Specifies JMH version
 //    includeTests.set(true) // Allows to include test sources into generate JMH jar, i.e. use it when benchmarks depend on the test classes.
 //    duplicateClassesStrategy.set(DuplicatesStrategy.FAIL) // Strategy to apply when encountring duplicate classes during creation of the fat jar (i.e. while executing jmhJar task)
+
+    // Run with -PvectorizedSearch to benchmark on Java 17 with the Vector API of the multi-release jar
+    if (project.hasProperty("vectorizedSearch")) {
+        jvm.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(17)) }.get().executablePath.asFile.absolutePath)
+        jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
+    }
 }
 
 // Apply a specific Java toolchain to ease working on different environments.
@@ -100,14 +109,74 @@ java {
     }
 }
 
+// Classes replacing the ones of the main source set on Java 17 and later in the multi-release jar
+val java17: SourceSet by sourceSets.creating {
+    java.srcDir("src/main/java17")
+}
+
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
 }
 
+// The emojis are loaded from the binary emojis.bin, the emojis.json is only the readable source it is generated with
+tasks.named<ProcessResources>("processResources") {
+    exclude("emojis.json")
+}
+
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+listOf("jar", "jmhJar").forEach { jarTask ->
+    tasks.named<Jar>(jarTask) {
+        into("META-INF/versions/17") {
+            from(java17.output)
+        }
+        manifest {
+            attributes("Multi-Release" to "true")
+        }
+    }
+}
+
+tasks.named<Jar>("sourcesJar") {
+    into("META-INF/versions/17") {
+        from(java17.allSource)
+    }
+}
+
 tasks.withType<Test> {
     systemProperty("file.encoding", "UTF-8")
 }
 
+// Tests of the Java 17 classes, which run together with all other tests with the Java 17 classes ahead of the main classes
+val java17Test: SourceSet by sourceSets.creating {
+    java.srcDir("src/test/java17")
+    compileClasspath += java17.output + sourceSets.test.get().compileClasspath
+    runtimeClasspath += java17.output + sourceSets.test.get().runtimeClasspath
+}
+
+tasks.named<JavaCompile>(java17Test.compileJavaTaskName) {
+    javaCompiler.set(javaToolchains.compilerFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+    options.release.set(17)
+    options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
+val test17 by tasks.registering(Test::class) {
+    description = "Runs all tests on Java 17 with the classes of META-INF/versions/17 and the Vector API."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    javaLauncher.set(javaToolchains.launcherFor { languageVersion.set(JavaLanguageVersion.of(17)) })
+    testClassesDirs = sourceSets.test.get().output.classesDirs + java17Test.output.classesDirs
+    classpath = java17Test.runtimeClasspath
+    jvmArgs("--add-modules", "jdk.incubator.vector")
+    useJUnit()
+}
+
+tasks.named("check") {
+    dependsOn(test17)
+}
+
 tasks.withType<Javadoc> {
     options.encoding = "UTF-8"
 }
@@ -359,6 +428,62 @@ tasks.register("generateEmojis") {
         val file = File("$projectDir/src/main/resources/emojis.json")
 
         file.writeText(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(allUnicodeEmojis))
+
+        writeBinaryEmojiFile(allUnicodeEmojis, File("$projectDir/src/main/resources/emojis.bin"))
+    }
+}
+
+/**
+ * Writes the emojis in the compact binary format read by net.fellbaum.jemoji.EmojiLoader.
+ * All strings are deduplicated into a string table in front of the emojis, which reference them by index.
+ */
+fun writeBinaryEmojiFile(emojis: List<Emoji>, file: File) {
+    val strings = LinkedHashMap<String, Int>()
+    fun stringIndex(value: String): Int = strings.getOrPut(value) { strings.size }
+
+    emojis.forEach { emoji ->
+        (emoji.discordAliases + emoji.githubAliases + emoji.slackAliases).forEach { stringIndex(it) }
+        stringIndex(emoji.qualification)
+        stringIndex(emoji.description)
+        stringIndex(emoji.group)
+        stringIndex(emoji.subgroup)
+    }
+    check(strings.size <= 0xFFFF) { "Too many strings for the binary emoji file: ${strings.size}" }
+
+    DataOutputStream(BufferedOutputStream(file.outputStream())).use { out ->
+        // Format version
+        out.writeInt(2)
+        out.writeInt(strings.size)
+        strings.keys.forEach {
+            val bytes = it.toByteArray(Charsets.UTF_8)
+            out.writeShort(bytes.size)
+            out.write(bytes)
+        }
+
+        out.writeInt(emojis.size)
+        emojis.forEach { emoji ->
+            val codePoints = emoji.emoji.codePoints().toArray()
+            out.writeByte(codePoints.size)
+            // 3 bytes are enough for every code point up to U+10FFFF
+            codePoints.forEach {
+                out.writeByte(it shr 16)
+                out.writeShort(it and 0xFFFF)
+            }
+            // Each distinct alias once, then the aliases of each group as indexes into the distinct aliases
+            val aliases = (emoji.discordAliases + emoji.githubAliases + emoji.slackAliases).distinct()
+            out.writeByte(aliases.size)
+            aliases.forEach { out.writeShort(stringIndex(it)) }
+            listOf(emoji.discordAliases, emoji.githubAliases, emoji.slackAliases).forEach { groupAliases ->
+                out.writeByte(groupAliases.size)
+                groupAliases.forEach { out.writeByte(aliases.indexOf(it)) }
+            }
+            out.writeByte((if (emoji.hasFitzpatrick) 1 else 0) or (if (emoji.hasHairStyle) 2 else 0))
+            out.writeShort(Math.round(emoji.version * 10).toInt())
+            out.writeShort(stringIndex(emoji.qualification))
+            out.writeShort(stringIndex(emoji.description))
+            out.writeShort(stringIndex(emoji.group))
+            out.writeShort(stringIndex(emoji.subgroup))
+        }
     }
 }
 
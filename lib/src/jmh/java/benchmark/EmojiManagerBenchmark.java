@@ -4,6 +4,7 @@ import net.fellbaum.jemoji.Emoji;
 import net.fellbaum.jemoji.EmojiManager;
 import net.fellbaum.jemoji.EmojiManagerTest;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.io.BufferedReader;
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Matcher;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -23,6 +25,20 @@ public class EmojiManagerBenchmark {
     private static final String CONTAINS_EMOJI_TEXT = new BufferedReader(new InputStreamReader(Objects.requireNonNull(EmojiManagerBenchmark.class.getClassLoader().getResourceAsStream("ContainsBenchmarkTextFileWithEmojis.txt"))))
             .lines().collect(Collectors.joining("\n"));
 
+    // About 10 MB of text, which is searched in bulk on Java 17 if the Vector API is available
+    private static final String LARGE_TEXT = repeat(TEXT, 5_000_000);
+    private static final String LARGE_TEXT_WITHOUT_EMOJIS = repeat(EmojiManager.removeAllEmojis(TEXT), 5_000_000);
+    // Latin-1, cyrillic and CJK text with only a few emojis, none of its code points may start an emoji
+    private static final String NON_ASCII_TEXT = repeat("Ünïcödé façade naïve Привет мир 你好世界，今天天气很好。日本語のテキスト 👍 ", 1_000_000);
+
+    private static String repeat(final String text, final int minLength) {
+        final StringBuilder sb = new StringBuilder(minLength + text.length());
+        while (sb.length() < minLength) {
+            sb.append(text);
+        }
+        return sb.toString();
+    }
+
     public static void main(String[] args) throws Exception {
         org.openjdk.jmh.Main.main(args);
     }
@@ -69,9 +85,61 @@ public class EmojiManagerBenchmark {
         return EmojiManager.extractEmojisInOrder(EMOJIS_RANDOM_ORDER);
     }
 
+    @Benchmark
+    public int emojiPatternFind() {
+        final Matcher matcher = EmojiManager.getEmojiPattern().matcher(TEXT);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int emojiPatternFindNonAsciiText() {
+        final Matcher matcher = EmojiManager.getEmojiPattern().matcher(NON_ASCII_TEXT);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<Emoji> extractEmojisInOrderNonAsciiText() {
+        return EmojiManager.extractEmojisInOrder(NON_ASCII_TEXT);
+    }
+
     @Benchmark
     public boolean containsEmoji() {
         return EmojiManager.containsEmoji(CONTAINS_EMOJI_TEXT);
     }
 
+    @Benchmark
+    public List<Emoji> extractEmojisInOrderLargeText() {
+        return EmojiManager.extractEmojisInOrder(LARGE_TEXT);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsPrepend = "-Djemoji.disableVectorizedSearch=true")
+    public List<Emoji> extractEmojisInOrderLargeTextScalar() {
+        return EmojiManager.extractEmojisInOrder(LARGE_TEXT);
+    }
+
+    @Benchmark
+    public List<Emoji> extractEmojisInOrderParallelLargeText() {
+        return EmojiManager.extractEmojisInOrderParallel(LARGE_TEXT);
+    }
+
+    @Benchmark
+    public boolean containsEmojiLargeTextWithoutEmojis() {
+        return EmojiManager.containsEmoji(LARGE_TEXT_WITHOUT_EMOJIS);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsPrepend = "-Djemoji.disableVectorizedSearch=true")
+    public boolean containsEmojiLargeTextWithoutEmojisScalar() {
+        return EmojiManager.containsEmoji(LARGE_TEXT_WITHOUT_EMOJIS);
+    }
+
 }
@@ -0,0 +1,70 @@
+package benchmark;
+
+import net.fellbaum.jemoji.Emoji;
+import net.fellbaum.jemoji.EmojiManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class EmojiMemoizationBenchmark {
+
+    private static final List<Emoji> EMOJIS = new ArrayList<>(EmojiManager.getAllEmojis());
+
+    @Setup(Level.Trial)
+    public void measureMemoizationMemory() {
+        final long sizeBefore = GraphLayout.parseInstance(EMOJIS).totalSize();
+        for (final Emoji emoji : EMOJIS) {
+            emoji.getHtmlDecimalCode();
+            emoji.getHtmlHexadecimalCode();
+            emoji.getURLEncoded();
+        }
+        final long sizeAfter = GraphLayout.parseInstance(EMOJIS).totalSize();
+        System.out.printf("%nMemory of %d emojis: %d bytes, %d bytes with memoized HTML codes and URL encodings (+%d bytes)%n",
+                EMOJIS.size(), sizeBefore, sizeAfter, sizeAfter - sizeBefore);
+    }
+
+    @Benchmark
+    public void getHtmlDecimalCode(final Blackhole blackhole) {
+        for (final Emoji emoji : EMOJIS) {
+            blackhole.consume(emoji.getHtmlDecimalCode());
+        }
+    }
+
+    @Benchmark
+    public void getHtmlHexadecimalCode(final Blackhole blackhole) {
+        for (final Emoji emoji : EMOJIS) {
+            blackhole.consume(emoji.getHtmlHexadecimalCode());
+        }
+    }
+
+    @Benchmark
+    public void getURLEncoded(final Blackhole blackhole) {
+        for (final Emoji emoji : EMOJIS) {
+            blackhole.consume(emoji.getURLEncoded());
+        }
+    }
+
+    @Benchmark
+    public void getCodePoints(final Blackhole blackhole) {
+        for (final Emoji emoji : EMOJIS) {
+            blackhole.consume(emoji.getCodePoints());
+        }
+    }
+
+    @Benchmark
+    public void getCodePointAt(final Blackhole blackhole) {
+        for (final Emoji emoji : EMOJIS) {
+            for (int i = 0; i < emoji.getCodePointCount(); i++) {
+                blackhole.consume(emoji.getCodePointAt(i));
+            }
+        }
+    }
+}
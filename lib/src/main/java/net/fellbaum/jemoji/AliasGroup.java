@@ -0,0 +1,27 @@
+package net.fellbaum.jemoji;
+
+import java.util.List;
+import java.util.function.Function;
+
+public enum AliasGroup {
+
+    DISCORD(Emoji::getDiscordAliases),
+    GITHUB(Emoji::getGithubAliases),
+    SLACK(Emoji::getSlackAliases);
+
+    private final Function<Emoji, List<String>> aliasesFunction;
+
+    AliasGroup(final Function<Emoji, List<String>> aliasesFunction) {
+        this.aliasesFunction = aliasesFunction;
+    }
+
+    /**
+     * Gets the aliases of the given emoji which belong to this group.
+     *
+     * @param emoji The emoji to get the aliases for.
+     * @return The aliases of the emoji in this group.
+     */
+    public List<String> getAliases(final Emoji emoji) {
+        return aliasesFunction.apply(emoji);
+    }
+}
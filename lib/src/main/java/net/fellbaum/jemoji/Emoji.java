@@ -1,20 +1,18 @@
 package net.fellbaum.jemoji;
 
-import com.fasterxml.jackson.annotation.JsonProperty;
-
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public class Emoji {
 
+    private final int id;
     private final String emoji;
     private final String unicode;
     private final List<String> discordAliases;
@@ -28,23 +26,51 @@ public class Emoji {
     private final EmojiGroup group;
     private final EmojiSubGroup subgroup;
 
-    private final List<String> allAliases;
+    private final int[] codePoints;
+
+    // Computed on first use, a race only computes the same immutable value twice
+    private List<String> allAliases;
+    private int hashCode;
+    private String htmlDecimalCode;
+    private String htmlHexadecimalCode;
+    private String urlEncoded;
+
+    Emoji(
+            String emoji,
+            String unicode,
+            List<String> discordAliases,
+            List<String> githubAliases,
+            List<String> slackAliases,
+            boolean hasFitzpatrick,
+            boolean hasHairStyle,
+            double version,
+            Qualification qualification,
+            String description,
+            EmojiGroup group,
+            EmojiSubGroup subgroup) {
+        this(-1, emoji, unicode, emoji.codePoints().toArray(), discordAliases, githubAliases, slackAliases, null, hasFitzpatrick, hasHairStyle, version, qualification, description, group, subgroup);
+    }
 
     Emoji(
-            @JsonProperty("emoji") String emoji,
-            @JsonProperty("unicode") String unicode,
-            @JsonProperty("discordAliases") List<String> discordAliases,
-            @JsonProperty("githubAliases") List<String> githubAliases,
-            @JsonProperty("slackAliases") List<String> slackAliases,
-            @JsonProperty("hasFitzpatrick") boolean hasFitzpatrick,
-            @JsonProperty("hasHairStyle") boolean hasHairStyle,
-            @JsonProperty("version") double version,
-            @JsonProperty("qualification") Qualification qualification,
-            @JsonProperty("description") String description,
-            @JsonProperty("group") EmojiGroup group,
-            @JsonProperty("subgroup") EmojiSubGroup subgroup) {
+            int id,
+            String emoji,
+            String unicode,
+            int[] codePoints,
+            List<String> discordAliases,
+            List<String> githubAliases,
+            List<String> slackAliases,
+            List<String> allAliases,
+            boolean hasFitzpatrick,
+            boolean hasHairStyle,
+            double version,
+            Qualification qualification,
+            String description,
+            EmojiGroup group,
+            EmojiSubGroup subgroup) {
+        this.id = id;
         this.emoji = emoji;
         this.unicode = unicode;
+        this.codePoints = codePoints;
         this.discordAliases = discordAliases;
         this.githubAliases = githubAliases;
         this.slackAliases = slackAliases;
@@ -55,12 +81,17 @@ public class Emoji {
         this.description = description;
         this.group = group;
         this.subgroup = subgroup;
+        this.allAliases = allAliases;
+    }
 
-        Set<String> aliases = new HashSet<>();
-        aliases.addAll(getDiscordAliases());
-        aliases.addAll(getGithubAliases());
-        aliases.addAll(getSlackAliases());
-        allAliases = Collections.unmodifiableList(new ArrayList<>(aliases));
+    /**
+     * Gets the id of this emoji, which is its index in the emoji file counting only the emojis loaded by
+     * {@link EmojiManager}. The ids are dense, starting at 0, and can be used to index arrays or bitsets.
+     *
+     * @return The id of this emoji or -1 if it was not loaded by {@link EmojiManager}.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -81,13 +112,57 @@ public class Emoji {
         return unicode;
     }
 
+    /**
+     * Gets the code points of this emoji.
+     * A new array is returned on every call, so changes to it do not affect the emoji.
+     * Use {@link #getCodePointCount()} and {@link #getCodePointAt(int)} to read the code points without copying them.
+     *
+     * @return A copy of the code points of this emoji.
+     */
+    public int[] getCodePoints() {
+        return codePoints.clone();
+    }
+
+    /**
+     * Gets the number of code points of this emoji.
+     *
+     * @return The number of code points of this emoji.
+     */
+    public int getCodePointCount() {
+        return codePoints.length;
+    }
+
+    /**
+     * Gets the code point at the given index of this emoji.
+     *
+     * @param index The index of the code point, from 0 to {@link #getCodePointCount()} exclusive.
+     * @return The code point at the index.
+     * @throws IndexOutOfBoundsException If the index is negative or not less than the number of code points.
+     */
+    public int getCodePointAt(final int index) {
+        return codePoints[index];
+    }
+
+    int[] getCodePointArray() {
+        return codePoints;
+    }
+
     /**
      * Gets the HTML decimal code for this emoji.
      *
      * @return The HTML decimal code for this emoji.
      */
     public String getHtmlDecimalCode() {
-        return getEmoji().codePoints().mapToObj(operand -> "&#" + operand).collect(Collectors.joining(";")) + ";";
+        String code = htmlDecimalCode;
+        if (code == null) {
+            final StringBuilder sb = new StringBuilder();
+            for (final int codePoint : codePoints) {
+                sb.append("&#").append(codePoint).append(';');
+            }
+            code = sb.toString();
+            htmlDecimalCode = code;
+        }
+        return code;
     }
 
     /**
@@ -96,22 +171,26 @@ public class Emoji {
      * @return The HTML hexadecimal code for this emoji.
      */
     public String getHtmlHexadecimalCode() {
-        return getEmoji().codePoints().mapToObj(operand -> "&#x" + Integer.toHexString(operand).toUpperCase()).collect(Collectors.joining(";")) + ";";
+        String code = htmlHexadecimalCode;
+        if (code == null) {
+            final StringBuilder sb = new StringBuilder();
+            for (final int codePoint : codePoints) {
+                sb.append("&#x").append(Integer.toHexString(codePoint).toUpperCase()).append(';');
+            }
+            code = sb.toString();
+            htmlHexadecimalCode = code;
+        }
+        return code;
     }
 
     /**
      * Gets variations of this emoji with different Fitzpatrick or HairStyle modifiers, if there are any.
-     * The returned list does not include this emoji itself.
+     * The returned list does not include this emoji itself and is computed only once for all emojis.
      *
      * @return Variations of this emoji with different Fitzpatrick or HairStyle modifiers, if there are any.
      */
     public List<Emoji> getVariations() {
-        final String baseEmoji = HairStyle.removeHairStyle(Fitzpatrick.removeFitzpatrick(emoji));
-        return EmojiManager.getAllEmojis()
-                .parallelStream()
-                .filter(emoji -> HairStyle.removeHairStyle(Fitzpatrick.removeFitzpatrick(emoji.getEmoji())).equals(baseEmoji))
-                .filter(emoji -> !emoji.equals(this))
-                .collect(Collectors.toList());
+        return EmojiManager.getVariations(this);
     }
 
     /**
@@ -120,11 +199,16 @@ public class Emoji {
      * @return The URL encoded emoji
      */
     public String getURLEncoded() {
-        try {
-            return URLEncoder.encode(getEmoji(), StandardCharsets.UTF_8.toString());
-        } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
+        String encoded = urlEncoded;
+        if (encoded == null) {
+            try {
+                encoded = URLEncoder.encode(getEmoji(), StandardCharsets.UTF_8.toString());
+            } catch (UnsupportedEncodingException e) {
+                throw new RuntimeException(e);
+            }
+            urlEncoded = encoded;
         }
+        return encoded;
     }
 
     /**
@@ -160,7 +244,15 @@ public class Emoji {
      * @return All the aliases for this emoji.
      */
     public List<String> getAllAliases() {
-        return allAliases;
+        List<String> aliases = allAliases;
+        if (aliases == null) {
+            final Set<String> aliasSet = new LinkedHashSet<>(discordAliases);
+            aliasSet.addAll(githubAliases);
+            aliasSet.addAll(slackAliases);
+            aliases = Collections.unmodifiableList(new ArrayList<>(aliasSet));
+            allAliases = aliases;
+        }
+        return aliases;
     }
 
     /**
@@ -251,6 +343,9 @@ public class Emoji {
 
         Emoji emoji1 = (Emoji) o;
 
+        // Emojis loaded by the EmojiManager exist only once per id
+        if (id != -1 && emoji1.id != -1) return false;
+        if (hashCode() != emoji1.hashCode()) return false;
         if (hasFitzpatrick != emoji1.hasFitzpatrick) return false;
         if (hasHairStyle != emoji1.hasHairStyle) return false;
         if (Double.compare(emoji1.version, version) != 0) return false;
@@ -267,6 +362,15 @@ public class Emoji {
 
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = computeHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int computeHashCode() {
         int result;
         long temp;
         result = emoji.hashCode();
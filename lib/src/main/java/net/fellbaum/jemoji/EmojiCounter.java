@@ -0,0 +1,188 @@
+package net.fellbaum.jemoji;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts how often each emoji appears, i.e. with {@link EmojiManager#countEmojis(CharSequence, EmojiCounter)}.
+ * The counts are kept in a single array indexed by the emojis, so counting an emoji does not allocate anything.
+ * A counter is not thread-safe, use one counter per thread and {@link #addAll(EmojiCounter)} to combine them.
+ */
+public final class EmojiCounter {
+
+    private final long[] counts;
+    private long totalCount;
+
+    /**
+     * Creates a counter with a count of 0 for all emojis.
+     */
+    public EmojiCounter() {
+        this.counts = new long[EmojiManager.getEmojiCount()];
+    }
+
+    void increment(final int id) {
+        counts[id]++;
+        totalCount++;
+    }
+
+    /**
+     * Adds one to the count of the given emoji.
+     *
+     * @param emoji The emoji to count.
+     * @throws IllegalArgumentException If the emoji is not one of {@link EmojiManager#getAllEmojis()}.
+     */
+    public void add(final Emoji emoji) {
+        final int id = EmojiManager.getEmojiId(emoji);
+        if (id == -1) throw new IllegalArgumentException("Unknown emoji " + emoji.getEmoji());
+        increment(id);
+    }
+
+    /**
+     * Adds the counts of the given counter to this counter.
+     *
+     * @param counter The counter to add.
+     */
+    public void addAll(final EmojiCounter counter) {
+        for (int id = 0; id < counts.length; id++) {
+            counts[id] += counter.counts[id];
+        }
+        totalCount += counter.totalCount;
+    }
+
+    /**
+     * Gets the count of the given emoji.
+     *
+     * @param emoji The emoji to get the count for.
+     * @return The number of times the emoji was counted.
+     */
+    public long getCount(final Emoji emoji) {
+        final int id = EmojiManager.getEmojiId(emoji);
+        return id == -1 ? 0 : counts[id];
+    }
+
+    /**
+     * Gets the sum of the counts of all emojis.
+     *
+     * @return The number of emojis counted.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the emojis with the highest counts, the emoji with the highest count first.
+     * Emojis with the same count are ordered like in the emoji file.
+     *
+     * @param limit The maximum number of emojis to get.
+     * @return The emojis with the highest counts, without emojis which were not counted.
+     */
+    public List<Emoji> getTop(final int limit) {
+        final List<Emoji> top = new ArrayList<>();
+        for (final Map.Entry<Emoji, Long> entry : getTopCounts(limit).entrySet()) {
+            top.add(entry.getKey());
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    /**
+     * Gets the emojis with the highest counts together with their count, the emoji with the highest count first.
+     * Emojis with the same count are ordered like in the emoji file.
+     *
+     * @param limit The maximum number of emojis to get.
+     * @return The emojis with the highest counts and their counts, without emojis which were not counted.
+     */
+    public Map<Emoji, Long> getTopCounts(final int limit) {
+        if (limit < 0) throw new IllegalArgumentException("The limit must not be negative");
+
+        // Min-heap of the highest counted ids found so far, the lowest of them at the root
+        final int[] heap = new int[Math.min(limit, counts.length)];
+        int heapSize = 0;
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] == 0) continue;
+            if (heapSize < heap.length) {
+                heap[heapSize] = id;
+                siftUp(heap, heapSize++);
+            } else if (heapSize > 0 && isHigher(id, heap[0])) {
+                heap[0] = id;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        final int[] topIds = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            topIds[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(heap, i);
+        }
+
+        final Map<Emoji, Long> topCounts = new LinkedHashMap<>();
+        for (final int id : topIds) {
+            topCounts.put(EmojiManager.getEmojiById(id), counts[id]);
+        }
+        return Collections.unmodifiableMap(topCounts);
+    }
+
+    private boolean isHigher(final int id, final int otherId) {
+        return counts[id] != counts[otherId] ? counts[id] > counts[otherId] : id < otherId;
+    }
+
+    private void siftUp(final int[] heap, int index) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (!isHigher(heap[parent], heap[index])) return;
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(final int[] heap, final int heapSize) {
+        int index = 0;
+        while (true) {
+            int lowestChild = 2 * index + 1;
+            if (lowestChild >= heapSize) return;
+            if (lowestChild + 1 < heapSize && isHigher(heap[lowestChild], heap[lowestChild + 1])) lowestChild++;
+            if (!isHigher(heap[index], heap[lowestChild])) return;
+            swap(heap, index, lowestChild);
+            index = lowestChild;
+        }
+    }
+
+    private static void swap(final int[] heap, final int i, final int j) {
+        final int id = heap[i];
+        heap[i] = heap[j];
+        heap[j] = id;
+    }
+
+    /**
+     * Gets the counts of all counted emojis.
+     *
+     * @return The counts of all emojis with a count above 0, ordered like in the emoji file.
+     */
+    public Map<Emoji, Long> toMap() {
+        final Map<Emoji, Long> emojiToCount = new LinkedHashMap<>();
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0) emojiToCount.put(EmojiManager.getEmojiById(id), counts[id]);
+        }
+        return Collections.unmodifiableMap(emojiToCount);
+    }
+
+    /**
+     * Resets the counts of all emojis to 0, so the counter can be reused.
+     */
+    public void clear() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "EmojiCounter{" +
+                "totalCount=" + totalCount +
+                ", counts=" + toMap() +
+                '}';
+    }
+}
@@ -0,0 +1,107 @@
+package net.fellbaum.jemoji;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A reusable filter for a fixed set of emojis.
+ * The emojis are compiled once when the filter is created, so applying the filter to a text costs the same as
+ * the methods of {@link EmojiManager} working on all emojis. The filter is immutable and can be shared between threads.
+ */
+public final class EmojiFilter {
+
+    private final EmojiTrie emojiTrie;
+
+    private EmojiFilter(final EmojiTrie emojiTrie) {
+        this.emojiTrie = emojiTrie;
+    }
+
+    /**
+     * Creates a filter for the given emojis.
+     *
+     * @param emojis The emojis to filter.
+     * @return The filter.
+     */
+    public static EmojiFilter of(final Collection<Emoji> emojis) {
+        return new EmojiFilter(new EmojiTrie(emojis));
+    }
+
+    /**
+     * Creates a filter for the given emojis.
+     *
+     * @param emojis The emojis to filter.
+     * @return The filter.
+     */
+    public static EmojiFilter of(final Emoji... emojis) {
+        return of(Arrays.asList(emojis));
+    }
+
+    /**
+     * Checks if the given text contains any of the emojis of this filter.
+     *
+     * @param text The text to check.
+     * @return True if the given text contains any of the emojis.
+     */
+    public boolean containsEmoji(final CharSequence text) {
+        return EmojiManager.containsEmoji(text, emojiTrie);
+    }
+
+    /**
+     * Extracts the emojis of this filter from the given text in the order they appear.
+     *
+     * @param text The text to extract emojis from.
+     * @return A list of emojis.
+     */
+    public List<Emoji> extractEmojisInOrder(final CharSequence text) {
+        return EmojiManager.extractEmojisInOrder(text, emojiTrie);
+    }
+
+    /**
+     * Removes the emojis of this filter from the given text.
+     *
+     * @param text The text to remove emojis from.
+     * @return The text without the emojis.
+     */
+    public String removeEmojis(final CharSequence text) {
+        return EmojiManager.removeEmojis(text, emojiTrie);
+    }
+
+    /**
+     * Replaces the emojis of this filter in the given text with the given replacement string.
+     *
+     * @param text              The text to replace emojis from.
+     * @param replacementString The replacement string.
+     * @return The text with the emojis replaced.
+     */
+    public String replaceEmojis(final CharSequence text, final String replacementString) {
+        return EmojiManager.replaceEmojis(text, replacementString, emojiTrie);
+    }
+
+    /**
+     * Replaces the emojis of this filter in the given text with the result of the given function.
+     * If the text does not contain any of the emojis, the text itself is returned without copying it.
+     *
+     * @param text                The text to replace emojis from.
+     * @param replacementFunction The function returning the replacement for an emoji, or null to keep the emoji.
+     * @return The text with the emojis replaced.
+     */
+    public String replaceEmojis(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction) {
+        return EmojiManager.replaceEmojis(text, replacementFunction, emojiTrie);
+    }
+
+    /**
+     * Replaces the emojis of this filter in the given text with the result of the given function and appends the
+     * result to the given appendable.
+     *
+     * @param text                The text to replace emojis from.
+     * @param replacementFunction The function returning the replacement for an emoji, or null to keep the emoji.
+     * @param appendable          The appendable to append the text with the emojis replaced to.
+     * @throws IOException If the appendable throws an exception.
+     */
+    public void replaceEmojis(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction, final Appendable appendable) throws IOException {
+        EmojiManager.replaceEmojis(text, replacementFunction, appendable, emojiTrie);
+    }
+}
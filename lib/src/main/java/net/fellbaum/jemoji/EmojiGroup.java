@@ -1,7 +1,5 @@
 package net.fellbaum.jemoji;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-
 import java.util.Arrays;
 import java.util.List;
 
@@ -49,7 +47,6 @@ public enum EmojiGroup {
      * @param name The name of the group.
      * @return The emoji group.
      */
-    @JsonCreator
     public static EmojiGroup fromString(String name) {
         for (EmojiGroup emojiGroup : EMOJI_GROUPS) {
             if (emojiGroup.getName().equals(name)) {
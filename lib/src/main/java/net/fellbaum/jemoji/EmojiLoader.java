@@ -0,0 +1,165 @@
+package net.fellbaum.jemoji;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads the emojis from the binary emoji file generated by the {@code generateEmojis} task.
+ * <p>
+ * The file is a big endian encoded sequence of:
+ * <pre>
+ * int      format version
+ * int      string count
+ * per string:
+ *   short    UTF-8 byte length, followed by the UTF-8 bytes of the string
+ * int      emoji count
+ * per emoji:
+ *   byte     code point count, followed by 3 bytes per code point
+ *   byte     distinct alias count, followed by an unsigned short string index per alias
+ *   byte     discord alias count, followed by a byte index into the distinct aliases per alias
+ *   byte     github alias count, followed by a byte index into the distinct aliases per alias
+ *   byte     slack alias count, followed by a byte index into the distinct aliases per alias
+ *   byte     flags, 1 = has fitzpatrick, 2 = has hairstyle
+ *   short    version multiplied by 10
+ *   short    string index of the qualification
+ *   short    string index of the description
+ *   short    string index of the group
+ *   short    string index of the subgroup
+ * </pre>
+ * The strings are referenced by index, so aliases and group names are only decoded once. All code points and aliases
+ * are stored as they are used, so the emojis are created without decoding their code points or merging their
+ * aliases again.
+ */
+final class EmojiLoader {
+
+    private static final String PATH = "emojis.bin";
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int FLAG_FITZPATRICK = 1;
+    private static final int FLAG_HAIR_STYLE = 2;
+
+    private EmojiLoader() {
+    }
+
+    /**
+     * Loads all fully qualified and component emojis in the order of the emoji file.
+     * Each emoji gets its index in the returned list as id.
+     *
+     * @return All fully qualified and component emojis.
+     */
+    static List<Emoji> loadEmojis() {
+        try (final InputStream is = EmojiLoader.class.getClassLoader().getResourceAsStream(PATH)) {
+            if (is == null) throw new IllegalStateException("Emoji file " + PATH + " not found");
+            return readEmojis(ByteBuffer.wrap(readAllBytes(is)));
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] readAllBytes(final InputStream is) throws IOException {
+        byte[] bytes = new byte[512 * 1024];
+        int length = 0;
+        for (int read; (read = is.read(bytes, length, bytes.length - length)) != -1; ) {
+            length += read;
+            if (length == bytes.length) bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        return Arrays.copyOf(bytes, length);
+    }
+
+    private static List<Emoji> readEmojis(final ByteBuffer in) {
+        final int formatVersion = in.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported emoji file format version " + formatVersion);
+        }
+
+        final byte[] bytes = in.array();
+        final String[] strings = new String[in.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = in.getShort() & 0xFFFF;
+            strings[i] = new String(bytes, in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        }
+
+        // The enum constants are resolved once per string instead of once per emoji
+        final Qualification[] qualifications = new Qualification[strings.length];
+        final EmojiGroup[] groups = new EmojiGroup[strings.length];
+        final EmojiSubGroup[] subgroups = new EmojiSubGroup[strings.length];
+
+        final int emojiCount = in.getInt();
+        final List<Emoji> emojis = new ArrayList<>(emojiCount);
+        for (int i = 0; i < emojiCount; i++) {
+            final int[] codePoints = new int[in.get() & 0xFF];
+            for (int j = 0; j < codePoints.length; j++) {
+                codePoints[j] = (in.get() & 0xFF) << 16 | (in.getShort() & 0xFFFF);
+            }
+
+            final String[] aliases = new String[in.get() & 0xFF];
+            for (int j = 0; j < aliases.length; j++) {
+                aliases[j] = strings[in.getShort() & 0xFFFF];
+            }
+            final List<String> discordAliases = readGroupAliases(in, aliases);
+            final List<String> githubAliases = readGroupAliases(in, aliases);
+            final List<String> slackAliases = readGroupAliases(in, aliases);
+            final int flags = in.get() & 0xFF;
+            final double version = (in.getShort() & 0xFFFF) / 10.0;
+
+            final int qualificationIndex = in.getShort() & 0xFFFF;
+            if (qualifications[qualificationIndex] == null) {
+                qualifications[qualificationIndex] = Qualification.fromString(strings[qualificationIndex]);
+            }
+            final String description = strings[in.getShort() & 0xFFFF];
+            final int groupIndex = in.getShort() & 0xFFFF;
+            if (groups[groupIndex] == null) {
+                groups[groupIndex] = EmojiGroup.fromString(strings[groupIndex]);
+            }
+            final int subgroupIndex = in.getShort() & 0xFFFF;
+            if (subgroups[subgroupIndex] == null) {
+                subgroups[subgroupIndex] = EmojiSubGroup.fromString(strings[subgroupIndex]);
+            }
+
+            final Qualification qualification = qualifications[qualificationIndex];
+            if (qualification != Qualification.FULLY_QUALIFIED && qualification != Qualification.COMPONENT) continue;
+
+            final String emoji = new String(codePoints, 0, codePoints.length);
+            emojis.add(new Emoji(
+                    emojis.size(),
+                    emoji,
+                    emoji,
+                    codePoints,
+                    discordAliases,
+                    githubAliases,
+                    slackAliases,
+                    toList(aliases),
+                    (flags & FLAG_FITZPATRICK) != 0,
+                    (flags & FLAG_HAIR_STYLE) != 0,
+                    version,
+                    qualification,
+                    description,
+                    groups[groupIndex],
+                    subgroups[subgroupIndex]));
+        }
+        return emojis;
+    }
+
+    private static List<String> readGroupAliases(final ByteBuffer in, final String[] aliases) {
+        final int aliasCount = in.get() & 0xFF;
+        if (aliasCount == 0) return Collections.emptyList();
+
+        final String[] groupAliases = new String[aliasCount];
+        for (int i = 0; i < aliasCount; i++) {
+            groupAliases[i] = aliases[in.get() & 0xFF];
+        }
+        return toList(groupAliases);
+    }
+
+    private static List<String> toList(final String[] strings) {
+        if (strings.length == 0) return Collections.emptyList();
+        return Collections.unmodifiableList(Arrays.asList(strings));
+    }
+}
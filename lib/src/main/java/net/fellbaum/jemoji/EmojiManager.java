@@ -1,91 +1,231 @@
 package net.fellbaum.jemoji;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
 public final class EmojiManager {
 
-    private static final String PATH = "emojis.json";
+    private static final Pattern NOT_WANTED_EMOJI_CHARACTERS = Pattern.compile("[\\p{Alpha}\\p{Z}]");
 
-    private static final Map<String, Emoji> EMOJI_UNICODE_TO_EMOJI;
-    private static final Map<Integer, List<Emoji>> EMOJI_FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING;
-    private static final List<Emoji> EMOJIS_LENGTH_DESCENDING;
+    // The number of texts of a batch processed by a single task, before it is split further
+    private static final int BATCH_TASK_SIZE = 64;
+    // The number of chars of a text searched by a single task, before it is split further
+    private static final int PARALLEL_TASK_LENGTH = 1 << 16;
 
-    private static final Pattern EMOJI_PATTERN;
-    private static final Pattern NOT_WANTED_EMOJI_CHARACTERS = Pattern.compile("[\\p{Alpha}\\p{Z}]");
+    private static final Comparator<Emoji> EMOJI_CODEPOINT_COMPARATOR = Comparator.comparingInt(
+            (final Emoji emoji) -> emoji.getEmoji().codePointCount(0, emoji.getEmoji().length())
+    ).reversed();
 
-    private static final Comparator<Emoji> EMOJI_CODEPOINT_COMPARATOR = (final Emoji o1, final Emoji o2) -> {
-        if (o1.getEmoji().codePoints().toArray().length == o2.getEmoji().codePoints().toArray().length) return 0;
-        return o1.getEmoji().codePoints().toArray().length > o2.getEmoji().codePoints().toArray().length ? -1 : 1;
-    };
+    // Each index is kept in its own holder class, so it is only built when a method actually needs it
 
-    static {
-        final String fileContent = readFileAsString();
-        try {
-            final List<Emoji> emojis = new ObjectMapper().readValue(fileContent, new TypeReference<List<Emoji>>() {
-                    }).stream()
-                    .filter(emoji -> emoji.getQualification() == Qualification.FULLY_QUALIFIED || emoji.getQualification() == Qualification.COMPONENT)
-                    .collect(Collectors.toList());
+    private static final class EmojiHolder {
+        // The position of each emoji in this list is its id
+        private static final List<Emoji> EMOJIS = Collections.unmodifiableList(EmojiLoader.loadEmojis());
+    }
+
+    private static final class EmojiUnicodeHolder {
+        private static final Map<String, Emoji> EMOJI_UNICODE_TO_EMOJI = mapEmojiUnicodes(EmojiHolder.EMOJIS);
+    }
 
-            EMOJI_UNICODE_TO_EMOJI = Collections.unmodifiableMap(
-                    emojis.stream().collect(Collectors.toMap(Emoji::getEmoji, Function.identity()))
-            );
+    private static final class EmojisLengthDescendingHolder {
+        private static final List<Emoji> EMOJIS_LENGTH_DESCENDING = Collections.unmodifiableList(
+                EmojiHolder.EMOJIS.stream().sorted(EMOJI_CODEPOINT_COMPARATOR).collect(Collectors.toList())
+        );
+    }
 
-            EMOJIS_LENGTH_DESCENDING = Collections.unmodifiableList(emojis.stream().sorted(EMOJI_CODEPOINT_COMPARATOR).collect(Collectors.toList()));
+    private static final class EmojiSetHolder {
+        private static final EmojiSet EMOJIS = EmojiSet.of(EmojiHolder.EMOJIS);
+        private static final Map<EmojiGroup, Set<Emoji>> GROUP_TO_EMOJIS = mapEmojis(EmojiHolder.EMOJIS, EmojiGroup.class, Emoji::getGroup);
+        private static final Map<EmojiSubGroup, Set<Emoji>> SUBGROUP_TO_EMOJIS = mapEmojis(EmojiHolder.EMOJIS, EmojiSubGroup.class, Emoji::getSubgroup);
+    }
 
-            EMOJI_FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING = emojis.stream().collect(getEmojiLinkedHashMapCollector());
+    private static final class EmojiTrieHolder {
+        private static final EmojiTrie EMOJI_TRIE = new EmojiTrie(EmojiHolder.EMOJIS);
+    }
 
-            EMOJI_PATTERN = Pattern.compile(EMOJIS_LENGTH_DESCENDING.stream()
-                    .map(s -> "(" + Pattern.quote(s.getEmoji()) + ")").collect(Collectors.joining("|")), Pattern.UNICODE_CHARACTER_CLASS);
-        } catch (final JsonProcessingException e) {
-            throw new RuntimeException(e);
+    private static final class AliasHolder {
+        private static final Map<String, Emoji> ALIAS_TO_EMOJI = mapAliases(EmojiHolder.EMOJIS, Emoji::getAllAliases);
+        private static final Map<String, Emoji> DISCORD_ALIAS_TO_EMOJI = mapAliases(EmojiHolder.EMOJIS, Emoji::getDiscordAliases);
+        private static final Map<String, Emoji> GITHUB_ALIAS_TO_EMOJI = mapAliases(EmojiHolder.EMOJIS, Emoji::getGithubAliases);
+        private static final Map<String, Emoji> SLACK_ALIAS_TO_EMOJI = mapAliases(EmojiHolder.EMOJIS, Emoji::getSlackAliases);
+    }
+
+    private static final class AliasTrieHolder {
+        private static final EmojiTrie ALIAS_TRIE = createAliasTrie(EmojiHolder.EMOJIS, Emoji::getAllAliases);
+        private static final Map<AliasGroup, EmojiTrie> ALIAS_GROUP_TO_ALIAS_TRIE;
+
+        static {
+            final Map<AliasGroup, EmojiTrie> aliasGroupToAliasTrie = new EnumMap<>(AliasGroup.class);
+            for (final AliasGroup aliasGroup : AliasGroup.values()) {
+                aliasGroupToAliasTrie.put(aliasGroup, createAliasTrie(EmojiHolder.EMOJIS, aliasGroup::getAliases));
+            }
+            ALIAS_GROUP_TO_ALIAS_TRIE = Collections.unmodifiableMap(aliasGroupToAliasTrie);
         }
     }
 
-    private static Collector<Emoji, ?, LinkedHashMap<Integer, List<Emoji>>> getEmojiLinkedHashMapCollector() {
-        return Collectors.groupingBy(
-                emoji -> emoji.getEmoji().codePoints().toArray()[0],
-                LinkedHashMap::new,
-                Collectors.collectingAndThen(
-                        Collectors.toList(),
-                        list -> {
-                            list.sort(EMOJI_CODEPOINT_COMPARATOR);
-                            return list;
-                        }
-                )
-        );
+    private static final class VariationHolder {
+        private static final Map<String, List<Emoji>> EMOJI_TO_VARIATIONS = mapVariations(EmojiHolder.EMOJIS);
     }
 
-    private static String readFileAsString() {
-        try {
-            final ClassLoader classLoader = ClassLoader.getSystemClassLoader();
-            try (final InputStream is = classLoader.getResourceAsStream(PATH)) {
-                if (is == null) return null;
-                try (final InputStreamReader isr = new InputStreamReader(is);
-                     final BufferedReader reader = new BufferedReader(isr)) {
-                    return reader.lines().collect(Collectors.joining(System.lineSeparator()));
+    private static final class ModifierVariantHolder {
+        private static final Map<String, Emoji[]> EMOJI_TO_FITZPATRICK_VARIANTS = mapModifierVariants(EmojiHolder.EMOJIS, Fitzpatrick.values(), Fitzpatrick::getUnicode, Fitzpatrick::removeFitzpatrick);
+        private static final Map<String, Emoji[]> EMOJI_TO_HAIR_STYLE_VARIANTS = mapModifierVariants(EmojiHolder.EMOJIS, HairStyle.values(), HairStyle::getUnicode, HairStyle::removeHairStyle);
+    }
+
+    private static final class EmojiPatternHolder {
+        private static final Pattern EMOJI_PATTERN = Pattern.compile(EmojiTrieHolder.EMOJI_TRIE.toRegex());
+    }
+
+    private static Map<String, Emoji> mapEmojiUnicodes(final List<Emoji> emojis) {
+        final Map<String, Emoji> unicodeToEmoji = new HashMap<>(emojis.size() * 4 / 3 + 1);
+        for (final Emoji emoji : emojis) {
+            unicodeToEmoji.put(emoji.getEmoji(), emoji);
+        }
+        return Collections.unmodifiableMap(unicodeToEmoji);
+    }
+
+    private static <T extends Enum<T>> Map<T, Set<Emoji>> mapEmojis(final List<Emoji> emojis, final Class<T> keyClass, final Function<Emoji, T> keyFunction) {
+        final Map<T, List<Emoji>> keyToEmojiList = new EnumMap<>(keyClass);
+        for (final Emoji emoji : emojis) {
+            keyToEmojiList.computeIfAbsent(keyFunction.apply(emoji), key -> new ArrayList<>()).add(emoji);
+        }
+        final Map<T, Set<Emoji>> keyToEmojis = new EnumMap<>(keyClass);
+        keyToEmojiList.forEach((key, keyEmojis) -> keyToEmojis.put(key, EmojiSet.of(keyEmojis)));
+        return keyToEmojis;
+    }
+
+    /**
+     * Maps every alias without its surrounding colons to the emoji.
+     * If multiple emojis share an alias, the first one in the emoji file wins.
+     */
+    private static Map<String, Emoji> mapAliases(final List<Emoji> emojis, final Function<Emoji, List<String>> aliasesFunction) {
+        final Map<String, Emoji> aliasToEmoji = new HashMap<>();
+        for (final Emoji emoji : emojis) {
+            for (final String alias : aliasesFunction.apply(emoji)) {
+                aliasToEmoji.putIfAbsent(removeColonFromAlias(alias), emoji);
+            }
+        }
+        return Collections.unmodifiableMap(aliasToEmoji);
+    }
+
+    /**
+     * Maps every emoji to all other emojis sharing the same base emoji without fitzpatrick and hairstyle modifiers.
+     */
+    private static Map<String, List<Emoji>> mapVariations(final List<Emoji> emojis) {
+        final Map<String, List<Emoji>> baseEmojiToEmojis = new HashMap<>();
+        for (final Emoji emoji : emojis) {
+            final String baseEmoji = HairStyle.removeHairStyle(Fitzpatrick.removeFitzpatrick(emoji.getEmoji()));
+            baseEmojiToEmojis.computeIfAbsent(baseEmoji, key -> new ArrayList<>()).add(emoji);
+        }
+
+        final Map<String, List<Emoji>> emojiToVariations = new HashMap<>();
+        for (final List<Emoji> group : baseEmojiToEmojis.values()) {
+            for (final Emoji emoji : group) {
+                if (group.size() == 1) {
+                    emojiToVariations.put(emoji.getEmoji(), Collections.emptyList());
+                    continue;
+                }
+                final List<Emoji> variations = new ArrayList<>(group.size() - 1);
+                for (final Emoji variation : group) {
+                    if (variation != emoji) variations.add(variation);
+                }
+                emojiToVariations.put(emoji.getEmoji(), Collections.unmodifiableList(variations));
+            }
+        }
+        return emojiToVariations;
+    }
+
+    /**
+     * Maps every emoji with variations of the given modifier type to all of its variants, which share the same emoji
+     * without the modifiers. The variant at index 0 has no modifier, the variant at index ordinal + 1 only has the
+     * modifier of that ordinal. Emojis having more than one different modifier are mapped, but are no variant.
+     */
+    private static <T extends Enum<T>> Map<String, Emoji[]> mapModifierVariants(final List<Emoji> emojis, final T[] modifiers, final Function<T, String> unicodeFunction, final UnaryOperator<String> removeFunction) {
+        final Map<String, Emoji[]> baseEmojiToVariants = new HashMap<>();
+        for (final Emoji emoji : emojis) {
+            final String baseEmoji = removeFunction.apply(emoji.getEmoji());
+            // Skip the modifiers themselves
+            if (baseEmoji.isEmpty()) continue;
+            final Emoji[] variants = baseEmojiToVariants.computeIfAbsent(baseEmoji, key -> new Emoji[modifiers.length + 1]);
+            final int variantIndex = getModifierVariantIndex(emoji.getEmoji(), modifiers, unicodeFunction);
+            if (variantIndex != -1 && variants[variantIndex] == null) variants[variantIndex] = emoji;
+        }
+
+        final Map<String, Emoji[]> emojiToVariants = new HashMap<>();
+        for (final Emoji emoji : emojis) {
+            final Emoji[] variants = baseEmojiToVariants.get(removeFunction.apply(emoji.getEmoji()));
+            if (variants == null) continue;
+            for (final Emoji variant : variants) {
+                if (variant != null && variant != emoji) {
+                    emojiToVariants.put(emoji.getEmoji(), variants);
+                    break;
                 }
             }
-        } catch (final IOException e) {
-            throw new RuntimeException(e);
         }
+        return emojiToVariants;
+    }
+
+    private static <T extends Enum<T>> int getModifierVariantIndex(final String emoji, final T[] modifiers, final Function<T, String> unicodeFunction) {
+        int variantIndex = 0;
+        for (final T modifier : modifiers) {
+            if (!emoji.contains(unicodeFunction.apply(modifier))) continue;
+            if (variantIndex != 0) return -1;
+            variantIndex = modifier.ordinal() + 1;
+        }
+        return variantIndex;
+    }
+
+    /**
+     * Creates a trie over all aliases enclosed in colons i.e. :thumbsup:.
+     * If multiple emojis share an alias, the first one in the emoji file wins.
+     */
+    private static EmojiTrie createAliasTrie(final List<Emoji> emojis, final Function<Emoji, List<String>> aliasesFunction) {
+        final Map<String, Emoji> aliasToEmoji = new HashMap<>();
+        for (final Emoji emoji : emojis) {
+            for (final String alias : aliasesFunction.apply(emoji)) {
+                if (isColonAlias(alias)) aliasToEmoji.putIfAbsent(alias, emoji);
+            }
+        }
+        return new EmojiTrie(aliasToEmoji);
     }
 
     private EmojiManager() {
     }
 
+    static EmojiTrie getEmojiTrie() {
+        return EmojiTrieHolder.EMOJI_TRIE;
+    }
+
+    static Emoji getEmojiById(final int id) {
+        return EmojiHolder.EMOJIS.get(id);
+    }
+
+    static int getEmojiCount() {
+        return EmojiHolder.EMOJIS.size();
+    }
+
+    /**
+     * Gets the id of the given emoji, also if the emoji was not loaded by this class but equals a loaded emoji.
+     */
+    static int getEmojiId(final Emoji emoji) {
+        if (emoji.getId() >= 0) return emoji.getId();
+        final Emoji loadedEmoji = EmojiUnicodeHolder.EMOJI_UNICODE_TO_EMOJI.get(emoji.getEmoji());
+        return loadedEmoji != null && loadedEmoji.equals(emoji) ? loadedEmoji.getId() : -1;
+    }
+
+    static List<Emoji> getVariations(final Emoji emoji) {
+        final List<Emoji> variations = VariationHolder.EMOJI_TO_VARIATIONS.get(emoji.getEmoji());
+        return variations == null ? Collections.emptyList() : variations;
+    }
+
     /**
      * Returns the emoji for the given unicode.
      *
@@ -94,7 +234,7 @@ public final class EmojiManager {
      */
     public static Optional<Emoji> getEmoji(final String emoji) {
         if (isStringNullOrEmpty(emoji)) return Optional.empty();
-        return Optional.ofNullable(EMOJI_UNICODE_TO_EMOJI.get(emoji));
+        return Optional.ofNullable(EmojiUnicodeHolder.EMOJI_UNICODE_TO_EMOJI.get(emoji));
     }
 
     /**
@@ -105,36 +245,38 @@ public final class EmojiManager {
      */
     public static boolean isEmoji(final String emoji) {
         if (isStringNullOrEmpty(emoji)) return false;
-        return EMOJI_UNICODE_TO_EMOJI.containsKey(emoji);
+        return EmojiUnicodeHolder.EMOJI_UNICODE_TO_EMOJI.containsKey(emoji);
     }
 
     /**
      * Gets all emojis.
      *
-     * @return A set of all emojis.
+     * @return An unmodifiable set of all emojis.
      */
     public static Set<Emoji> getAllEmojis() {
-        return new HashSet<>(EMOJIS_LENGTH_DESCENDING);
+        return EmojiSetHolder.EMOJIS;
     }
 
     /**
      * Gets all emojis that are part of the given group.
      *
      * @param group The group to get the emojis for.
-     * @return A set of all emojis that are part of the given group.
+     * @return An unmodifiable set of all emojis that are part of the given group.
      */
     public static Set<Emoji> getAllEmojisByGroup(final EmojiGroup group) {
-        return EMOJIS_LENGTH_DESCENDING.stream().filter(emoji -> emoji.getGroup() == group).collect(Collectors.toSet());
+        if (group == null) return Collections.emptySet();
+        return EmojiSetHolder.GROUP_TO_EMOJIS.getOrDefault(group, EmojiSet.of());
     }
 
     /**
      * Gets all emojis that are part of the given subgroup.
      *
      * @param subgroup The subgroup to get the emojis for.
-     * @return A set of all emojis that are part of the given subgroup.
+     * @return An unmodifiable set of all emojis that are part of the given subgroup.
      */
     public static Set<Emoji> getAllEmojisBySubGroup(final EmojiSubGroup subgroup) {
-        return EMOJIS_LENGTH_DESCENDING.stream().filter(emoji -> emoji.getSubgroup() == subgroup).collect(Collectors.toSet());
+        if (subgroup == null) return Collections.emptySet();
+        return EmojiSetHolder.SUBGROUP_TO_EMOJIS.getOrDefault(subgroup, EmojiSet.of());
     }
 
     /**
@@ -143,7 +285,7 @@ public final class EmojiManager {
      * @return A list of all emojis.
      */
     public static List<Emoji> getAllEmojisLengthDescending() {
-        return EMOJIS_LENGTH_DESCENDING;
+        return EmojisLengthDescendingHolder.EMOJIS_LENGTH_DESCENDING;
     }
 
     /**
@@ -154,12 +296,7 @@ public final class EmojiManager {
      */
     public static Optional<Emoji> getByAlias(final String alias) {
         if (isStringNullOrEmpty(alias)) return Optional.empty();
-        final String aliasWithoutColon = removeColonFromAlias(alias);
-        final String aliasWithColon = addColonToAlias(alias);
-        return EMOJI_UNICODE_TO_EMOJI.values()
-                .stream()
-                .filter(emoji -> emoji.getAllAliases().contains(aliasWithoutColon) || emoji.getAllAliases().contains(aliasWithColon))
-                .findFirst();
+        return Optional.ofNullable(AliasHolder.ALIAS_TO_EMOJI.get(removeColonFromAlias(alias)));
     }
 
     /**
@@ -170,12 +307,7 @@ public final class EmojiManager {
      */
     public static Optional<Emoji> getByDiscordAlias(final String alias) {
         if (isStringNullOrEmpty(alias)) return Optional.empty();
-        final String aliasWithoutColon = removeColonFromAlias(alias);
-        final String aliasWithColon = addColonToAlias(alias);
-        return EMOJI_UNICODE_TO_EMOJI.values()
-                .stream()
-                .filter(emoji -> emoji.getDiscordAliases().contains(aliasWithoutColon) || emoji.getDiscordAliases().contains(aliasWithColon))
-                .findFirst();
+        return Optional.ofNullable(AliasHolder.DISCORD_ALIAS_TO_EMOJI.get(removeColonFromAlias(alias)));
     }
 
     /**
@@ -186,12 +318,7 @@ public final class EmojiManager {
      */
     public static Optional<Emoji> getByGithubAlias(final String alias) {
         if (isStringNullOrEmpty(alias)) return Optional.empty();
-        final String aliasWithoutColon = removeColonFromAlias(alias);
-        final String aliasWithColon = addColonToAlias(alias);
-        return EMOJI_UNICODE_TO_EMOJI.values()
-                .stream()
-                .filter(emoji -> emoji.getGithubAliases().contains(aliasWithoutColon) || emoji.getGithubAliases().contains(aliasWithColon))
-                .findFirst();
+        return Optional.ofNullable(AliasHolder.GITHUB_ALIAS_TO_EMOJI.get(removeColonFromAlias(alias)));
     }
 
     /**
@@ -202,29 +329,26 @@ public final class EmojiManager {
      */
     public static Optional<Emoji> getBySlackAlias(final String alias) {
         if (isStringNullOrEmpty(alias)) return Optional.empty();
-        final String aliasWithoutColon = removeColonFromAlias(alias);
-        final String aliasWithColon = addColonToAlias(alias);
-        return EMOJI_UNICODE_TO_EMOJI.values()
-                .stream()
-                .filter(emoji -> emoji.getSlackAliases().contains(aliasWithoutColon) || emoji.getSlackAliases().contains(aliasWithColon))
-                .findFirst();
+        return Optional.ofNullable(AliasHolder.SLACK_ALIAS_TO_EMOJI.get(removeColonFromAlias(alias)));
     }
 
-    private static String removeColonFromAlias(final String alias) {
-        return alias.startsWith(":") && alias.endsWith(":") ? alias.substring(1, alias.length() - 1) : alias;
+    private static boolean isColonAlias(final String alias) {
+        return alias.length() > 2 && alias.charAt(0) == ':' && alias.charAt(alias.length() - 1) == ':';
     }
 
-    private static String addColonToAlias(final String alias) {
-        return alias.startsWith(":") && alias.endsWith(":") ? alias : ":" + alias + ":";
+    private static String removeColonFromAlias(final String alias) {
+        return alias.length() > 1 && alias.startsWith(":") && alias.endsWith(":") ? alias.substring(1, alias.length() - 1) : alias;
     }
 
     /**
      * Gets the pattern checking for all emojis.
+     * The pattern matches the same emojis as {@link #extractEmojisInOrder(CharSequence)} and does not contain any
+     * capturing groups, so {@link java.util.regex.Matcher#group()} returns the whole emoji.
      *
      * @return The pattern for all emojis.
      */
     public static Pattern getEmojiPattern() {
-        return EMOJI_PATTERN;
+        return EmojiPatternHolder.EMOJI_PATTERN;
     }
 
     /**
@@ -234,33 +358,26 @@ public final class EmojiManager {
      * @return True if the given text contains emojis.
      */
     public static boolean containsEmoji(final String text) {
-        if (isStringNullOrEmpty(text)) return false;
+        return containsEmoji((CharSequence) text);
+    }
 
-        final List<Emoji> emojis = new ArrayList<>();
+    /**
+     * Checks if the given text contains emojis.
+     *
+     * @param text The text to check.
+     * @return True if the given text contains emojis.
+     */
+    public static boolean containsEmoji(final CharSequence text) {
+        return containsEmoji(text, EmojiTrieHolder.EMOJI_TRIE);
+    }
 
-        final int[] textCodePointsArray = text.codePoints().toArray();
-        final long textCodePointsLength = textCodePointsArray.length;
-
-        nextTextIteration:
-        for (int textIndex = 0; textIndex < textCodePointsLength; textIndex++) {
-            final List<Emoji> emojisByCodePoint = EMOJI_FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING.get(textCodePointsArray[textIndex]);
-            if (emojisByCodePoint == null) continue;
-            for (final Emoji emoji : emojisByCodePoint) {
-                final int[] emojiCodePointsArray = emoji.getEmoji().codePoints().toArray();
-                final int emojiCodePointsLength = emojiCodePointsArray.length;
-                // Emoji code points are in bounds of the text code points
-                if (!((textIndex + emojiCodePointsLength) <= textCodePointsLength)) {
-                    continue;
-                }
+    static boolean containsEmoji(final CharSequence text, final EmojiTrie emojiTrie) {
+        if (isStringNullOrEmpty(text)) return false;
 
-                for (int i = 0; i < emojiCodePointsLength; i++) {
-                    if (textCodePointsArray[textIndex + i] != emojiCodePointsArray[i]) {
-                        break;
-                    }
-                    if (i == emojiCodePointsLength - 1) {
-                        return true;
-                    }
-                }
+        final int textLength = text.length();
+        for (int textIndex = emojiTrie.findNextCandidate(text, 0, textLength); textIndex < textLength; textIndex = emojiTrie.findNextCandidate(text, textIndex + 1, textLength)) {
+            if (emojiTrie.findLongestMatch(text, textIndex, textLength) != EmojiTrie.NO_MATCH) {
+                return true;
             }
         }
         return false;
@@ -273,50 +390,202 @@ public final class EmojiManager {
      * @return A list of emojis.
      */
     public static List<Emoji> extractEmojisInOrder(final String text) {
-        if (isStringNullOrEmpty(text)) return Collections.emptyList();
+        return extractEmojisInOrder((CharSequence) text);
+    }
 
-        final List<Emoji> emojis = new ArrayList<>();
+    /**
+     * Extracts all emojis from the given text in the order they appear.
+     *
+     * @param text The text to extract emojis from.
+     * @return A list of emojis.
+     */
+    public static List<Emoji> extractEmojisInOrder(final CharSequence text) {
+        return extractEmojisInOrder(text, EmojiTrieHolder.EMOJI_TRIE);
+    }
 
-        final int[] textCodePointsArray = text.codePoints().toArray();
-        final long textCodePointsLength = textCodePointsArray.length;
+    static List<Emoji> extractEmojisInOrder(final CharSequence text, final EmojiTrie emojiTrie) {
+        if (isStringNullOrEmpty(text)) return Collections.emptyList();
 
         // JDK 21 Characters.isEmoji
 
-        nextTextIteration:
-        for (int textIndex = 0; textIndex < textCodePointsLength; textIndex++) {
-            final List<Emoji> emojisByCodePoint = EMOJI_FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING.get(textCodePointsArray[textIndex]);
-            if (emojisByCodePoint == null) continue;
-            for (final Emoji emoji : emojisByCodePoint) {
-                final int[] emojiCodePointsArray = emoji.getEmoji().codePoints().toArray();
-                final int emojiCodePointsLength = emojiCodePointsArray.length;
-                // Emoji code points are in bounds of the text code points
-                if (!((textIndex + emojiCodePointsLength) <= textCodePointsLength)) {
-                    continue;
-                }
+        return Collections.unmodifiableList(extractEmojisInOrder(text, 0, text.length(), emojiTrie, new ArrayList<>()));
+    }
 
-                for (int i = 0; i < emojiCodePointsLength; i++) {
-                    if (textCodePointsArray[textIndex + i] != emojiCodePointsArray[i]) {
-                        break;
-                    }
-                    if (i == emojiCodePointsLength - 1) {
-                        emojis.add(emoji);
-                        textIndex += emojiCodePointsLength - 1;
-                        continue nextTextIteration;
-                    }
-                }
+    private static List<Emoji> extractEmojisInOrder(final CharSequence text, final int start, final int end, final EmojiTrie emojiTrie, final List<Emoji> emojis) {
+        forEachEmoji(text, start, end, emojiTrie, (emoji, charIndex, endCharIndex) -> emojis.add(emoji));
+        return emojis;
+    }
+
+    /**
+     * Extracts all emojis from the given text in the order they appear, searching parts of a large text in parallel
+     * in the common fork join pool. The result is the same as of {@link #extractEmojisInOrder(CharSequence)}.
+     *
+     * @param text The text to extract emojis from.
+     * @return A list of emojis.
+     */
+    public static List<Emoji> extractEmojisInOrderParallel(final CharSequence text) {
+        return extractEmojisInOrderParallel(text, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Extracts all emojis from the given text in the order they appear, searching parts of a large text in parallel
+     * in the given fork join pool. The result is the same as of {@link #extractEmojisInOrder(CharSequence)}.
+     *
+     * @param text The text to extract emojis from.
+     * @param pool The pool to search the parts of the text in.
+     * @return A list of emojis.
+     */
+    public static List<Emoji> extractEmojisInOrderParallel(final CharSequence text, final ForkJoinPool pool) {
+        if (isStringNullOrEmpty(text)) return Collections.emptyList();
+        if (text.length() <= PARALLEL_TASK_LENGTH) return extractEmojisInOrder(text);
+
+        return Collections.unmodifiableList(pool.invoke(new ExtractTask(text, 0, text.length(), EmojiTrieHolder.EMOJI_TRIE)));
+    }
+
+    /**
+     * Extracts the emojis of a part of a text, splitting it in halves until it is small enough.
+     * The text is only split where no emoji can span the split, so both halves can be searched independently.
+     */
+    @SuppressWarnings("serial")
+    private static final class ExtractTask extends RecursiveTask<List<Emoji>> {
+
+        private final CharSequence text;
+        private final int start;
+        private final int end;
+        private final EmojiTrie emojiTrie;
+
+        private ExtractTask(final CharSequence text, final int start, final int end, final EmojiTrie emojiTrie) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+            this.emojiTrie = emojiTrie;
+        }
+
+        @Override
+        protected List<Emoji> compute() {
+            final int split = end - start <= PARALLEL_TASK_LENGTH ? -1 : findSplit();
+            if (split == -1) {
+                return extractEmojisInOrder(text, start, end, emojiTrie, new ArrayList<>());
+            }
+
+            final ExtractTask right = new ExtractTask(text, split, end, emojiTrie);
+            right.fork();
+            final List<Emoji> emojis = new ExtractTask(text, start, split, emojiTrie).compute();
+            emojis.addAll(right.join());
+            return emojis;
+        }
+
+        private int findSplit() {
+            final int middle = (start + end) >>> 1;
+            for (int i = middle; i < end; i++) {
+                if (emojiTrie.isSafeSplit(text, i)) return i;
             }
+            for (int i = middle - 1; i > start; i--) {
+                if (emojiTrie.isSafeSplit(text, i)) return i;
+            }
+            return -1;
         }
+    }
+
+    /**
+     * Extracts all emojis from the given text in the order they appear together with their position in the text.
+     *
+     * @param text The text to extract emojis from.
+     * @return A list of emojis with their indices.
+     */
+    public static List<IndexedEmoji> extractEmojisInOrderWithIndex(final CharSequence text) {
+        if (isStringNullOrEmpty(text)) return Collections.emptyList();
+
+        final List<IndexedEmoji> emojis = new ArrayList<>();
+        forEachEmoji(text, 0, text.length(), EmojiTrieHolder.EMOJI_TRIE, new IndexedEmojiConsumer() {
+            // Code points are only counted between the emojis, the code points of an emoji are known
+            private int countedIndex;
+            private int codePointIndex;
+
+            @Override
+            public void accept(final Emoji emoji, final int charIndex, final int endCharIndex) {
+                codePointIndex += Character.codePointCount(text, countedIndex, charIndex);
+                final int endCodePointIndex = codePointIndex + emoji.getCodePointCount();
+                emojis.add(new IndexedEmoji(emoji, charIndex, endCharIndex, codePointIndex, endCodePointIndex));
+                countedIndex = endCharIndex;
+                codePointIndex = endCodePointIndex;
+            }
+        });
         return Collections.unmodifiableList(emojis);
     }
 
+    /**
+     * Passes all emojis of the given text in the order they appear to the given consumer, without collecting them.
+     *
+     * @param text     The text to search emojis in.
+     * @param consumer The consumer receiving each emoji and its char indices.
+     */
+    public static void forEachEmoji(final CharSequence text, final IndexedEmojiConsumer consumer) {
+        if (isStringNullOrEmpty(text)) return;
+
+        forEachEmoji(text, 0, text.length(), EmojiTrieHolder.EMOJI_TRIE, consumer);
+    }
+
+    /**
+     * Passes all emojis of the trie in the given part of the text in the order they appear to the given consumer.
+     * All searches of a whole text, extracting, counting and replacing, are done by this loop.
+     *
+     * @param text      The text to search emojis in.
+     * @param start     The index to start searching at.
+     * @param end       The index to stop searching at, no emoji ends after it.
+     * @param emojiTrie The trie of the emojis to search.
+     * @param consumer  The consumer receiving each emoji and its char indices.
+     */
+    static void forEachEmoji(final CharSequence text, final int start, final int end, final EmojiTrie emojiTrie, final IndexedEmojiConsumer consumer) {
+        for (int textIndex = start; textIndex < end; ) {
+            final int node = emojiTrie.findLongestMatch(text, textIndex, end);
+            if (node == EmojiTrie.NO_MATCH) {
+                textIndex = emojiTrie.findNextCandidate(text, textIndex + 1, end);
+                continue;
+            }
+            final int endIndex = textIndex + emojiTrie.getCharLength(node);
+            consumer.accept(emojiTrie.getEmoji(node), textIndex, endIndex);
+            textIndex = endIndex;
+        }
+    }
+
     /**
      * Extracts all emojis from the given text.
      *
      * @param text The text to extract emojis from.
-     * @return A list of emojis.
+     * @return A set of emojis.
      */
     public static Set<Emoji> extractEmojis(final String text) {
-        return Collections.unmodifiableSet(new HashSet<>(extractEmojisInOrder(text)));
+        return extractEmojis((CharSequence) text);
+    }
+
+    /**
+     * Extracts all emojis from the given text.
+     * The returned set is an {@link EmojiSet}, see {@link #extractEmojiSet(CharSequence)}.
+     *
+     * @param text The text to extract emojis from.
+     * @return A set of emojis.
+     */
+    public static Set<Emoji> extractEmojis(final CharSequence text) {
+        return extractEmojiSet(text);
+    }
+
+    /**
+     * Extracts all emojis from the given text into an {@link EmojiSet}, which can be compared with other emoji sets
+     * cheaply.
+     *
+     * @param text The text to extract emojis from.
+     * @return A set of emojis.
+     */
+    public static EmojiSet extractEmojiSet(final CharSequence text) {
+        if (isStringNullOrEmpty(text)) return EmojiSet.of();
+
+        final long[] words = EmojiSet.newWords();
+        forEachEmoji(text, 0, text.length(), EmojiTrieHolder.EMOJI_TRIE, (emoji, charIndex, endCharIndex) -> {
+            final int id = emoji.getId();
+            words[id >>> 6] |= 1L << id;
+        });
+        return EmojiSet.fromWords(words);
     }
 
     /**
@@ -326,68 +595,198 @@ public final class EmojiManager {
      * @return The text without emojis.
      */
     public static String removeAllEmojis(final String text) {
-        return removeEmojis(text, EMOJIS_LENGTH_DESCENDING);
+        return removeAllEmojis((CharSequence) text);
     }
 
     /**
-     * Removes the given emojis from the given text.
+     * Removes all emojis from the given text.
      *
-     * @param text           The text to remove emojis from.
-     * @param emojisToRemove The emojis to remove.
-     * @return The text without the given emojis.
+     * @param text The text to remove emojis from.
+     * @return The text without emojis.
      */
-    public static String removeEmojis(final String text, final Collection<Emoji> emojisToRemove) {
-        final LinkedHashMap<Integer, List<Emoji>> FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING = emojisToRemove.stream().sorted(EMOJI_CODEPOINT_COMPARATOR).collect(getEmojiLinkedHashMapCollector());
+    public static String removeAllEmojis(final CharSequence text) {
+        return removeEmojis(text, EmojiTrieHolder.EMOJI_TRIE);
+    }
 
-        final int[] textCodePointsArray = text.codePoints().toArray();
-        final long textCodePointsLength = textCodePointsArray.length;
+    /**
+     * Counts how often each emoji appears in the given text.
+     *
+     * @param text The text to count the emojis in.
+     * @return The counter with the number of times each emoji appears.
+     */
+    public static EmojiCounter countEmojis(final CharSequence text) {
+        return countEmojis(text, new EmojiCounter());
+    }
 
-        final StringBuilder sb = new StringBuilder();
+    /**
+     * Counts how often each emoji appears in the given text and adds the counts to the given counter.
+     * This way a single counter can be reused for many texts.
+     *
+     * @param text    The text to count the emojis in.
+     * @param counter The counter to add the counts to.
+     * @return The given counter.
+     */
+    public static EmojiCounter countEmojis(final CharSequence text, final EmojiCounter counter) {
+        if (isStringNullOrEmpty(text)) return counter;
 
-        nextTextIteration:
-        for (int textIndex = 0; textIndex < textCodePointsLength; textIndex++) {
-            final int currentCodepoint = textCodePointsArray[textIndex];
-            sb.appendCodePoint(currentCodepoint);
+        forEachEmoji(text, 0, text.length(), EmojiTrieHolder.EMOJI_TRIE, (emoji, charIndex, endCharIndex) -> counter.increment(emoji.getId()));
+        return counter;
+    }
 
-            final List<Emoji> emojisByCodePoint = FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING.get(currentCodepoint);
-            if (emojisByCodePoint == null) continue;
-            for (final Emoji emoji : emojisByCodePoint) {
-                final int[] emojiCodePointsArray = emoji.getEmoji().codePoints().toArray();
-                final int emojiCodePointsLength = emojiCodePointsArray.length;
-                // Check if Emoji code points are in bounds of the text code points
-                if (!((textIndex + emojiCodePointsLength) <= textCodePointsLength)) {
-                    continue;
-                }
+    /**
+     * Extracts all emojis from each of the given texts in the order they appear, using the common fork join pool.
+     *
+     * @param texts The texts to extract emojis from.
+     * @return A list of the emojis of each text, in the same order as the texts.
+     */
+    public static List<List<Emoji>> extractEmojisInOrder(final List<? extends CharSequence> texts) {
+        return extractEmojisInOrder(texts, ForkJoinPool.commonPool());
+    }
 
-                for (int i = 0; i < emojiCodePointsLength; i++) {
-                    if (textCodePointsArray[textIndex + i] != emojiCodePointsArray[i]) {
-                        break;
-                    }
-                    if (i == emojiCodePointsLength - 1) {
-                        sb.delete(sb.length() - Character.charCount(currentCodepoint), sb.length());
+    /**
+     * Extracts all emojis from each of the given texts in the order they appear, using the given fork join pool.
+     *
+     * @param texts The texts to extract emojis from.
+     * @param pool  The pool to process the texts in.
+     * @return A list of the emojis of each text, in the same order as the texts.
+     */
+    public static List<List<Emoji>> extractEmojisInOrder(final List<? extends CharSequence> texts, final ForkJoinPool pool) {
+        return processBatch(texts, EmojiManager::extractEmojisInOrder, pool);
+    }
 
-                        textIndex += emojiCodePointsLength - 1;
-                        continue nextTextIteration;
-                    }
+    /**
+     * Removes all emojis from each of the given texts, using the common fork join pool.
+     *
+     * @param texts The texts to remove emojis from.
+     * @return A list of the texts without emojis, in the same order as the texts.
+     */
+    public static List<String> removeAllEmojis(final List<? extends CharSequence> texts) {
+        return removeAllEmojis(texts, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Removes all emojis from each of the given texts, using the given fork join pool.
+     *
+     * @param texts The texts to remove emojis from.
+     * @param pool  The pool to process the texts in.
+     * @return A list of the texts without emojis, in the same order as the texts.
+     */
+    public static List<String> removeAllEmojis(final List<? extends CharSequence> texts, final ForkJoinPool pool) {
+        return processBatch(texts, EmojiManager::removeAllEmojis, pool);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> processBatch(final List<? extends CharSequence> texts, final Function<CharSequence, R> function, final ForkJoinPool pool) {
+        final CharSequence[] textArray = texts.toArray(new CharSequence[0]);
+        final Object[] results = new Object[textArray.length];
+        final BatchTask<R> task = new BatchTask<>(textArray, function, results, 0, textArray.length);
+        // Small batches are not worth handing over to the pool
+        if (textArray.length <= BATCH_TASK_SIZE) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return Collections.unmodifiableList(Arrays.asList((R[]) results));
+    }
+
+    /**
+     * Processes a range of texts of a batch, splitting it in halves until it is small enough.
+     * Each result is written at the index of its text, so the order of the texts is kept.
+     */
+    @SuppressWarnings("serial")
+    private static final class BatchTask<R> extends RecursiveAction {
+
+        private final CharSequence[] texts;
+        private final Function<CharSequence, R> function;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+
+        private BatchTask(final CharSequence[] texts, final Function<CharSequence, R> function, final Object[] results, final int from, final int to) {
+            this.texts = texts;
+            this.function = function;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_TASK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    results[i] = function.apply(texts[i]);
                 }
+                return;
             }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new BatchTask<>(texts, function, results, from, middle), new BatchTask<>(texts, function, results, middle, to));
         }
+    }
+
+    /**
+     * Removes the given emojis from the given text.
+     * Use an {@link EmojiFilter} instead, if the same emojis are used for many texts.
+     *
+     * @param text           The text to remove emojis from.
+     * @param emojisToRemove The emojis to remove.
+     * @return The text without the given emojis.
+     */
+    public static String removeEmojis(final String text, final Collection<Emoji> emojisToRemove) {
+        return removeEmojis((CharSequence) text, emojisToRemove);
+    }
+
+    /**
+     * Removes the given emojis from the given text.
+     * Use an {@link EmojiFilter} instead, if the same emojis are used for many texts.
+     *
+     * @param text           The text to remove emojis from.
+     * @param emojisToRemove The emojis to remove.
+     * @return The text without the given emojis.
+     */
+    public static String removeEmojis(final CharSequence text, final Collection<Emoji> emojisToRemove) {
+        return removeEmojis(text, new EmojiTrie(emojisToRemove));
+    }
 
-        return sb.toString();
+    static String removeEmojis(final CharSequence text, final EmojiTrie emojiTrie) {
+        return replaceEmojis(text, "", emojiTrie);
     }
 
     /**
      * Removes all emojis except the given emojis from the given text.
+     * The text is searched for all emojis, so an emoji to keep is never split up by a shorter emoji to remove.
      *
      * @param text         The text to remove emojis from.
      * @param emojisToKeep The emojis to keep.
      * @return The text with only the given emojis.
      */
     public static String removeAllEmojisExcept(final String text, final Collection<Emoji> emojisToKeep) {
-        final Set<Emoji> emojisToRemove = new HashSet<>(EMOJIS_LENGTH_DESCENDING);
-        emojisToRemove.removeAll(emojisToKeep);
+        return removeAllEmojisExcept((CharSequence) text, emojisToKeep);
+    }
 
-        return removeEmojis(text, emojisToRemove);
+    /**
+     * Removes all emojis except the given emojis from the given text.
+     * The text is searched for all emojis, so an emoji to keep is never split up by a shorter emoji to remove.
+     *
+     * @param text         The text to remove emojis from.
+     * @param emojisToKeep The emojis to keep.
+     * @return The text with only the given emojis.
+     */
+    public static String removeAllEmojisExcept(final CharSequence text, final Collection<Emoji> emojisToKeep) {
+        if (isStringNullOrEmpty(text)) return "";
+
+        final EmojiSet keptEmojis = toEmojiSet(emojisToKeep);
+        return replaceEmojis(text, emoji -> keptEmojis.containsId(emoji.getId()) ? null : "", EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    private static EmojiSet toEmojiSet(final Collection<Emoji> emojis) {
+        if (emojis instanceof EmojiSet) return (EmojiSet) emojis;
+
+        final long[] words = EmojiSet.newWords();
+        for (final Emoji emoji : emojis) {
+            final int id = getEmojiId(emoji);
+            if (id != -1) words[id >>> 6] |= 1L << id;
+        }
+        return EmojiSet.fromWords(words);
     }
 
     /**
@@ -398,6 +797,17 @@ public final class EmojiManager {
      * @return The text with only the given emojis.
      */
     public static String removeAllEmojisExcept(final String text, final Emoji... emojisToKeep) {
+        return removeAllEmojisExcept((CharSequence) text, emojisToKeep);
+    }
+
+    /**
+     * Removes all emojis except the given emojis from the given text.
+     *
+     * @param text         The text to remove emojis from.
+     * @param emojisToKeep The emojis to keep.
+     * @return The text with only the given emojis.
+     */
+    public static String removeAllEmojisExcept(final CharSequence text, final Emoji... emojisToKeep) {
         return removeAllEmojisExcept(text, Arrays.asList(emojisToKeep));
     }
 
@@ -409,11 +819,23 @@ public final class EmojiManager {
      * @return The text with all emojis replaced.
      */
     public static String replaceAllEmojis(final String text, final String replacementString) {
-        return replaceEmojis(text, replacementString, EMOJIS_LENGTH_DESCENDING);
+        return replaceAllEmojis((CharSequence) text, replacementString);
+    }
+
+    /**
+     * Replaces all emojis in the text with the given replacement string.
+     *
+     * @param text              The text to replace emojis from.
+     * @param replacementString The replacement string.
+     * @return The text with all emojis replaced.
+     */
+    public static String replaceAllEmojis(final CharSequence text, final String replacementString) {
+        return replaceEmojis(text, replacementString, EmojiTrieHolder.EMOJI_TRIE);
     }
 
     /**
      * Replaces the given emojis with the given replacement string.
+     * Use an {@link EmojiFilter} instead, if the same emojis are used for many texts.
      *
      * @param text              The text to replace emojis from.
      * @param emojisToReplace   The emojis to replace.
@@ -421,52 +843,276 @@ public final class EmojiManager {
      * @return The text with the given emojis replaced.
      */
     public static String replaceEmojis(final String text, final String replacementString, final Collection<Emoji> emojisToReplace) {
+        return replaceEmojis((CharSequence) text, replacementString, emojisToReplace);
+    }
+
+    /**
+     * Replaces the given emojis with the given replacement string.
+     * Use an {@link EmojiFilter} instead, if the same emojis are used for many texts.
+     *
+     * @param text              The text to replace emojis from.
+     * @param emojisToReplace   The emojis to replace.
+     * @param replacementString The replacement string.
+     * @return The text with the given emojis replaced.
+     */
+    public static String replaceEmojis(final CharSequence text, final String replacementString, final Collection<Emoji> emojisToReplace) {
+        return replaceEmojis(text, replacementString, new EmojiTrie(emojisToReplace));
+    }
+
+    static String replaceEmojis(final CharSequence text, final String replacementString, final EmojiTrie emojiTrie) {
+        return replaceEmojis(text, emoji -> replacementString, emojiTrie);
+    }
+
+    /**
+     * Replaces all emojis in the text with the result of the given function.
+     * If the text does not contain any emoji, the text itself is returned without copying it.
+     *
+     * @param text                The text to replace emojis from.
+     * @param replacementFunction The function returning the replacement for an emoji, or null to keep the emoji.
+     * @return The text with all emojis replaced.
+     */
+    public static String replaceAllEmojis(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction) {
+        return replaceEmojis(text, replacementFunction, EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    /**
+     * Replaces all emojis in the text with the result of the given function and appends the result to the given
+     * appendable.
+     *
+     * @param text                The text to replace emojis from.
+     * @param replacementFunction The function returning the replacement for an emoji, or null to keep the emoji.
+     * @param appendable          The appendable to append the text with all emojis replaced to.
+     * @throws IOException If the appendable throws an exception.
+     */
+    public static void replaceAllEmojis(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction, final Appendable appendable) throws IOException {
+        replaceEmojis(text, replacementFunction, appendable, EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    static String replaceEmojis(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction, final EmojiTrie emojiTrie) {
         if (isStringNullOrEmpty(text)) return "";
 
-        final LinkedHashMap<Integer, List<Emoji>> FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING = emojisToReplace.stream().sorted(EMOJI_CODEPOINT_COMPARATOR).collect(getEmojiLinkedHashMapCollector());
+        final EmojiReplacer replacer = new EmojiReplacer(text, replacementFunction, null);
+        forEachEmoji(text, 0, text.length(), emojiTrie, replacer);
+        if (replacer.appendable == null) return text.toString();
+        return ((StringBuilder) replacer.appendable).append(text, replacer.appendedIndex, text.length()).toString();
+    }
 
-        final int[] textCodePointsArray = text.codePoints().toArray();
-        final long textCodePointsLength = textCodePointsArray.length;
+    static void replaceEmojis(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction, final Appendable appendable, final EmojiTrie emojiTrie) throws IOException {
+        if (isStringNullOrEmpty(text)) return;
 
-        final StringBuilder sb = new StringBuilder();
+        final EmojiReplacer replacer = new EmojiReplacer(text, replacementFunction, appendable);
+        try {
+            forEachEmoji(text, 0, text.length(), emojiTrie, replacer);
+        } catch (final AppendException e) {
+            throw e.getCause();
+        }
+        appendable.append(text, replacer.appendedIndex, text.length());
+    }
 
-        nextTextIteration:
-        for (int textIndex = 0; textIndex < textCodePointsLength; textIndex++) {
-            final int currentCodepoint = textCodePointsArray[textIndex];
-            sb.appendCodePoint(currentCodepoint);
+    /**
+     * Appends the text up to each emoji and the replacement of the emoji to an appendable, an emoji is kept if the
+     * replacement function returns null. Without an appendable a string builder is created for the first replacement,
+     * so a text without replacements is not copied.
+     */
+    private static final class EmojiReplacer implements IndexedEmojiConsumer {
 
-            final List<Emoji> emojisByCodePoint = FIRST_CODEPOINT_TO_EMOJIS_ORDER_CODEPOINT_LENGTH_DESCENDING.get(currentCodepoint);
-            if (emojisByCodePoint == null) continue;
-            for (final Emoji emoji : emojisByCodePoint) {
-                final int[] emojiCodePointsArray = emoji.getEmoji().codePoints().toArray();
-                final int emojiCodePointsLength = emojiCodePointsArray.length;
-                // Check if Emoji code points are in bounds of the text code points
-                if (!((textIndex + emojiCodePointsLength) <= textCodePointsLength)) {
-                    continue;
-                }
+        private final CharSequence text;
+        private final Function<Emoji, ? extends CharSequence> replacementFunction;
+        private Appendable appendable;
+        private int appendedIndex;
 
-                for (int i = 0; i < emojiCodePointsLength; i++) {
-                    if (textCodePointsArray[textIndex + i] != emojiCodePointsArray[i]) {
-                        break;
-                    }
-                    if (i == emojiCodePointsLength - 1) {
-                        //Does the same but is slower apparently
-                        //sb.replace(sb.length() - Character.charCount(currentCodepoint), sb.length(), replacementString);
-                        sb.delete(sb.length() - Character.charCount(currentCodepoint), sb.length());
-                        sb.append(replacementString);
-
-                        textIndex += emojiCodePointsLength - 1;
-                        continue nextTextIteration;
-                    }
-                }
+        private EmojiReplacer(final CharSequence text, final Function<Emoji, ? extends CharSequence> replacementFunction, final Appendable appendable) {
+            this.text = text;
+            this.replacementFunction = replacementFunction;
+            this.appendable = appendable;
+        }
+
+        @Override
+        public void accept(final Emoji emoji, final int charIndex, final int endCharIndex) {
+            final CharSequence replacement = replacementFunction.apply(emoji);
+            if (replacement == null) return;
+            if (appendable == null) appendable = new StringBuilder(text.length() + 16);
+            try {
+                appendable.append(text, appendedIndex, charIndex).append(replacement);
+            } catch (final IOException e) {
+                throw new AppendException(e);
             }
+            appendedIndex = endCharIndex;
+        }
+    }
+
+    /**
+     * Passes an exception of the appendable through the consumer of the search, which cannot throw checked exceptions.
+     */
+    @SuppressWarnings("serial")
+    private static final class AppendException extends RuntimeException {
+
+        private AppendException(final IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
         }
+    }
+
+    /**
+     * Replaces all aliases enclosed in colons i.e. :thumbsup: in the given text with their emoji.
+     *
+     * @param text The text to replace aliases in.
+     * @return The text with all aliases replaced by their emojis.
+     */
+    public static String replaceAliases(final CharSequence text) {
+        return replaceAliases(text, AliasTrieHolder.ALIAS_TRIE);
+    }
+
+    /**
+     * Replaces all aliases of the given group enclosed in colons i.e. :thumbsup: in the given text with their emoji.
+     *
+     * @param text       The text to replace aliases in.
+     * @param aliasGroup The group of the aliases to replace.
+     * @return The text with all aliases of the group replaced by their emojis.
+     * @throws NullPointerException If the alias group is null.
+     */
+    public static String replaceAliases(final CharSequence text, final AliasGroup aliasGroup) {
+        Objects.requireNonNull(aliasGroup, "aliasGroup");
+        return replaceAliases(text, AliasTrieHolder.ALIAS_GROUP_TO_ALIAS_TRIE.get(aliasGroup));
+    }
 
-        return sb.toString();
+    private static String replaceAliases(final CharSequence text, final EmojiTrie aliasTrie) {
+        if (isStringNullOrEmpty(text)) return "";
+
+        final int textLength = text.length();
+        StringBuilder sb = null;
+        int appendedIndex = 0;
+
+        // Every alias starts with a colon, so only those positions need to be looked up
+        for (int textIndex = indexOfColon(text, 0); textIndex != -1; ) {
+            final int node = aliasTrie.findLongestMatch(text, textIndex, textLength);
+            if (node == EmojiTrie.NO_MATCH) {
+                textIndex = indexOfColon(text, textIndex + 1);
+                continue;
+            }
+            if (sb == null) sb = new StringBuilder(textLength);
+            sb.append(text, appendedIndex, textIndex).append(aliasTrie.getEmoji(node).getEmoji());
+            appendedIndex = textIndex + aliasTrie.getCharLength(node);
+            textIndex = indexOfColon(text, appendedIndex);
+        }
+
+        if (sb == null) return text.toString();
+        return sb.append(text, appendedIndex, textLength).toString();
+    }
+
+    private static int indexOfColon(final CharSequence text, final int fromIndex) {
+        for (int i = fromIndex; i < text.length(); i++) {
+            if (text.charAt(i) == ':') return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces all emojis in the given text with their first alias of the given group i.e. :thumbsup:.
+     * Emojis without an alias in the group are kept.
+     *
+     * @param text       The text to replace emojis in.
+     * @param aliasGroup The group of the aliases to use.
+     * @return The text with all emojis replaced by their aliases.
+     * @throws NullPointerException If the alias group is null.
+     */
+    public static String replaceEmojisWithAliases(final CharSequence text, final AliasGroup aliasGroup) {
+        Objects.requireNonNull(aliasGroup, "aliasGroup");
+        return replaceEmojis(text, emoji -> getFirstColonAlias(aliasGroup.getAliases(emoji)), EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    /**
+     * Replaces all emojis in the given text with their HTML entities of the given type i.e. &amp;#x1F44D;.
+     * The text is returned as is if it does not contain an emoji.
+     *
+     * @param text           The text to replace emojis in.
+     * @param htmlEntityType The notation of the HTML entities.
+     * @return The text with all emojis replaced by their HTML entities.
+     */
+    public static String replaceEmojisWithHtmlEntities(final CharSequence text, final HtmlEntityType htmlEntityType) {
+        return replaceEmojis(text, htmlEntityType::getEntities, EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    /**
+     * Replaces all emojis in the given text with their HTML entities of the given type i.e. &amp;#x1F44D; and appends
+     * the result to the given appendable.
+     *
+     * @param text           The text to replace emojis in.
+     * @param htmlEntityType The notation of the HTML entities.
+     * @param appendable     The appendable to append the text with all emojis replaced to.
+     * @throws IOException If the appendable throws an exception.
+     */
+    public static void replaceEmojisWithHtmlEntities(final CharSequence text, final HtmlEntityType htmlEntityType, final Appendable appendable) throws IOException {
+        replaceEmojis(text, htmlEntityType::getEntities, appendable, EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    /**
+     * Replaces all emojis in the given text with their variant having the given skin tone, or no skin tone if the
+     * given fitzpatrick modifier is empty. Emojis without such a variant are kept.
+     *
+     * @param text        The text to normalize the skin tones in.
+     * @param fitzpatrick The skin tone of the emojis or empty to remove the skin tone.
+     * @return The text with the skin tones of all emojis normalized.
+     */
+    public static String normalizeSkinTones(final CharSequence text, final Optional<Fitzpatrick> fitzpatrick) {
+        return replaceWithModifierVariant(text, ModifierVariantHolder.EMOJI_TO_FITZPATRICK_VARIANTS, fitzpatrick.map(value -> value.ordinal() + 1).orElse(0));
+    }
+
+    /**
+     * Replaces all emojis in the given text with their variant having the given hairstyle, or no hairstyle if the
+     * given hairstyle is empty. Emojis without such a variant are kept.
+     *
+     * @param text      The text to normalize the hairstyles in.
+     * @param hairStyle The hairstyle of the emojis or empty to remove the hairstyle.
+     * @return The text with the hairstyles of all emojis normalized.
+     */
+    public static String normalizeHairStyles(final CharSequence text, final Optional<HairStyle> hairStyle) {
+        return replaceWithModifierVariant(text, ModifierVariantHolder.EMOJI_TO_HAIR_STYLE_VARIANTS, hairStyle.map(value -> value.ordinal() + 1).orElse(0));
+    }
+
+    private static String replaceWithModifierVariant(final CharSequence text, final Map<String, Emoji[]> emojiToVariants, final int variantIndex) {
+        return replaceEmojis(text, emoji -> {
+            final Emoji[] variants = emojiToVariants.get(emoji.getEmoji());
+            if (variants == null || variants[variantIndex] == null || variants[variantIndex] == emoji) return null;
+            return variants[variantIndex].getEmoji();
+        }, EmojiTrieHolder.EMOJI_TRIE);
+    }
+
+    private static String getFirstColonAlias(final List<String> aliases) {
+        for (final String alias : aliases) {
+            if (isColonAlias(alias)) return alias;
+        }
+        return null;
+    }
+
+    /**
+     * Removes all occurrences of the given modifier or element together with a joiner directly in front of it.
+     *
+     * @param unicode The unicode of the emoji.
+     * @param element The unicode of the modifier or element to remove.
+     * @return The unicode of the emoji without the element.
+     */
+    static String removeWithJoiner(final String unicode, final String element) {
+        int index = unicode.indexOf(element);
+        if (index == -1) return unicode;
+
+        final StringBuilder sb = new StringBuilder(unicode.length());
+        int appendedIndex = 0;
+        do {
+            final int start = index > appendedIndex && unicode.charAt(index - 1) == '\u200D' ? index - 1 : index;
+            sb.append(unicode, appendedIndex, start);
+            appendedIndex = index + element.length();
+            index = unicode.indexOf(element, appendedIndex);
+        } while (index != -1);
+        return sb.append(unicode, appendedIndex, unicode.length()).toString();
     }
 
-    private static boolean isStringNullOrEmpty(final String string) {
-        return null == string || string.isEmpty();
+    private static boolean isStringNullOrEmpty(final CharSequence string) {
+        return null == string || string.length() == 0;
     }
 
 
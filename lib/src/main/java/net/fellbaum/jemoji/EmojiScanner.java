@@ -0,0 +1,178 @@
+package net.fellbaum.jemoji;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Scans a character stream for emojis without reading it into memory as a whole.
+ * The stream is read in chunks of a fixed size and an emoji spanning the border of two chunks is still found,
+ * as the scanner always keeps enough characters buffered to complete the longest emoji.
+ * Emojis are matched the same way as by {@link EmojiManager#extractEmojisInOrder(CharSequence)}.
+ *
+ * <pre>{@code
+ * try (EmojiScanner scanner = new EmojiScanner(reader)) {
+ *     while (scanner.find()) {
+ *         System.out.println(scanner.getEmoji() + " at " + scanner.getStart());
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * An instance is not thread safe.
+ */
+public final class EmojiScanner implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final EmojiTrie emojiTrie;
+    private final int lookahead;
+    private final char[] buffer;
+    private final CharBuffer bufferView;
+
+    // The stream offset of buffer[0]
+    private long bufferOffset;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    private Emoji emoji;
+    private long start;
+    private long end;
+
+    /**
+     * Creates a scanner reading from the given reader.
+     *
+     * @param reader The reader to scan.
+     */
+    public EmojiScanner(final Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a scanner reading from the given reader in chunks of the given size.
+     * The buffer is enlarged if it could not hold the longest emoji twice.
+     *
+     * @param reader     The reader to scan.
+     * @param bufferSize The number of chars to buffer.
+     */
+    public EmojiScanner(final Reader reader, final int bufferSize) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+        this.emojiTrie = EmojiManager.getEmojiTrie();
+        this.lookahead = emojiTrie.getMaxCharLength();
+        this.buffer = new char[Math.max(bufferSize, lookahead * 2)];
+        this.bufferView = CharBuffer.wrap(buffer);
+    }
+
+    /**
+     * Creates a scanner reading from the given UTF-8 encoded input stream.
+     *
+     * @param inputStream The input stream to scan.
+     */
+    public EmojiScanner(final InputStream inputStream) {
+        this(new InputStreamReader(Objects.requireNonNull(inputStream, "inputStream"), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Finds the next emoji in the stream.
+     *
+     * @return True if another emoji was found, false if the end of the stream was reached.
+     * @throws IOException If reading from the stream fails.
+     */
+    public boolean find() throws IOException {
+        while (true) {
+            if (limit - position < lookahead && !endOfStream) {
+                fill();
+            }
+            if (position >= limit) {
+                emoji = null;
+                return false;
+            }
+
+            final int node = emojiTrie.findLongestMatch(bufferView, position, limit);
+            if (node == EmojiTrie.NO_MATCH) {
+                position = emojiTrie.findNextCandidate(bufferView, position + 1, limit);
+                continue;
+            }
+
+            emoji = emojiTrie.getEmoji(node);
+            start = bufferOffset + position;
+            position += emojiTrie.getCharLength(node);
+            end = bufferOffset + position;
+            return true;
+        }
+    }
+
+    /**
+     * Gets the emoji found by the last call to {@link #find()}.
+     *
+     * @return The emoji.
+     * @throws IllegalStateException If no emoji has been found.
+     */
+    public Emoji getEmoji() {
+        checkMatch();
+        return emoji;
+    }
+
+    /**
+     * Gets the char offset in the stream of the first char of the emoji found by the last call to {@link #find()}.
+     *
+     * @return The start offset of the emoji.
+     * @throws IllegalStateException If no emoji has been found.
+     */
+    public long getStart() {
+        checkMatch();
+        return start;
+    }
+
+    /**
+     * Gets the char offset in the stream after the last char of the emoji found by the last call to {@link #find()}.
+     *
+     * @return The end offset of the emoji.
+     * @throws IllegalStateException If no emoji has been found.
+     */
+    public long getEnd() {
+        checkMatch();
+        return end;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException If closing the reader fails.
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void checkMatch() {
+        if (emoji == null) throw new IllegalStateException("No emoji found");
+    }
+
+    /**
+     * Moves the unscanned chars to the front of the buffer and reads until at least the lookahead is available.
+     */
+    private void fill() throws IOException {
+        final int remaining = limit - position;
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        bufferOffset += position;
+        position = 0;
+        limit = remaining;
+
+        while (limit < buffer.length) {
+            final int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                endOfStream = true;
+                return;
+            }
+            limit += read;
+            if (limit >= lookahead) return;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package net.fellbaum.jemoji;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of emojis, backed by a bitset over the ids of the emojis.
+ * Checking if an emoji is contained takes constant time and combining two sets only takes a few operations per 64
+ * emojis. Only emojis of {@link EmojiManager#getAllEmojis()} can be part of an emoji set.
+ */
+public final class EmojiSet extends AbstractSet<Emoji> {
+
+    private static final long[] NO_WORDS = new long[0];
+    private static final EmojiSet EMPTY = new EmojiSet(NO_WORDS);
+
+    // Bit i of words[i / 64] is set if the emoji with the id i is contained, without trailing zero words
+    private final long[] words;
+    private final int size;
+
+    private EmojiSet(final long[] words) {
+        this.words = words;
+        int bitCount = 0;
+        for (final long word : words) {
+            bitCount += Long.bitCount(word);
+        }
+        this.size = bitCount;
+    }
+
+    /**
+     * Creates a set from the given bitset, which must not be used afterwards.
+     */
+    static EmojiSet fromWords(final long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) length--;
+        if (length == 0) return EMPTY;
+        return new EmojiSet(length == words.length ? words : Arrays.copyOf(words, length));
+    }
+
+    static long[] newWords() {
+        return new long[(EmojiManager.getEmojiCount() + 63) >>> 6];
+    }
+
+    /**
+     * Gets an empty emoji set.
+     *
+     * @return The empty emoji set.
+     */
+    public static EmojiSet of() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an emoji set containing the given emojis.
+     *
+     * @param emojis The emojis of the set.
+     * @return The emoji set.
+     * @throws IllegalArgumentException If an emoji is not one of {@link EmojiManager#getAllEmojis()}.
+     */
+    public static EmojiSet of(final Emoji... emojis) {
+        return of(Arrays.asList(emojis));
+    }
+
+    /**
+     * Creates an emoji set containing the given emojis.
+     *
+     * @param emojis The emojis of the set.
+     * @return The emoji set.
+     * @throws IllegalArgumentException If an emoji is not one of {@link EmojiManager#getAllEmojis()}.
+     */
+    public static EmojiSet of(final Collection<Emoji> emojis) {
+        if (emojis instanceof EmojiSet) return (EmojiSet) emojis;
+
+        final long[] words = newWords();
+        for (final Emoji emoji : emojis) {
+            final int id = EmojiManager.getEmojiId(emoji);
+            if (id == -1) throw new IllegalArgumentException("Unknown emoji " + emoji.getEmoji());
+            words[id >>> 6] |= 1L << id;
+        }
+        return fromWords(words);
+    }
+
+    /**
+     * Creates a set of all emojis which are part of this set or the given set.
+     *
+     * @param other The other set.
+     * @return The union of both sets.
+     */
+    public EmojiSet union(final EmojiSet other) {
+        final long[] longer = words.length >= other.words.length ? words : other.words;
+        final long[] shorter = longer == words ? other.words : words;
+        final long[] union = Arrays.copyOf(longer, longer.length);
+        for (int i = 0; i < shorter.length; i++) {
+            union[i] |= shorter[i];
+        }
+        return fromWords(union);
+    }
+
+    /**
+     * Creates a set of all emojis which are part of this set and the given set.
+     *
+     * @param other The other set.
+     * @return The intersection of both sets.
+     */
+    public EmojiSet intersection(final EmojiSet other) {
+        final long[] intersection = new long[Math.min(words.length, other.words.length)];
+        for (int i = 0; i < intersection.length; i++) {
+            intersection[i] = words[i] & other.words[i];
+        }
+        return fromWords(intersection);
+    }
+
+    /**
+     * Creates a set of all emojis which are part of this set but not of the given set.
+     *
+     * @param other The other set.
+     * @return The difference of both sets.
+     */
+    public EmojiSet difference(final EmojiSet other) {
+        final long[] difference = Arrays.copyOf(words, words.length);
+        for (int i = 0; i < Math.min(words.length, other.words.length); i++) {
+            difference[i] &= ~other.words[i];
+        }
+        return fromWords(difference);
+    }
+
+    /**
+     * Counts the emojis which are part of this set and the given set, without creating the intersection.
+     *
+     * @param other The other set.
+     * @return The size of the intersection of both sets.
+     */
+    public int intersectionSize(final EmojiSet other) {
+        int intersectionSize = 0;
+        for (int i = 0; i < Math.min(words.length, other.words.length); i++) {
+            intersectionSize += Long.bitCount(words[i] & other.words[i]);
+        }
+        return intersectionSize;
+    }
+
+    boolean containsId(final int id) {
+        final int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof Emoji)) return false;
+        final int id = EmojiManager.getEmojiId((Emoji) o);
+        return id != -1 && containsId(id);
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (!(c instanceof EmojiSet)) return super.containsAll(c);
+
+        final long[] otherWords = ((EmojiSet) c).words;
+        if (otherWords.length > words.length) return false;
+        for (int i = 0; i < otherWords.length; i++) {
+            if ((otherWords[i] & ~words[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterates over the emojis ordered like in the emoji file.
+     *
+     * @return The iterator over the emojis of this set.
+     */
+    @Override
+    public Iterator<Emoji> iterator() {
+        return new Iterator<Emoji>() {
+            private int nextId = findNextId(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextId != -1;
+            }
+
+            @Override
+            public Emoji next() {
+                if (nextId == -1) throw new NoSuchElementException();
+                final Emoji emoji = EmojiManager.getEmojiById(nextId);
+                nextId = findNextId(nextId + 1);
+                return emoji;
+            }
+        };
+    }
+
+    private int findNextId(final int fromId) {
+        int wordIndex = fromId >>> 6;
+        if (wordIndex >= words.length) return -1;
+        long word = words[wordIndex] & (-1L << fromId);
+        while (word == 0) {
+            if (++wordIndex == words.length) return -1;
+            word = words[wordIndex];
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o instanceof EmojiSet) return Arrays.equals(words, ((EmojiSet) o).words);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -1,7 +1,5 @@
 package net.fellbaum.jemoji;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-
 import java.util.Arrays;
 import java.util.List;
 
@@ -140,7 +138,6 @@ public enum EmojiSubGroup {
      * @param name The name of the emoji subgroup.
      * @return The emoji subgroup.
      */
-    @JsonCreator
     public static EmojiSubGroup fromString(final String name) {
         for (final EmojiSubGroup emojiSubGroup : EMOJI_SUBGROUPS) {
             if (emojiSubGroup.getName().equals(name)) {
@@ -0,0 +1,420 @@
+package net.fellbaum.jemoji;
+
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * A flat, array backed trie over the code points of a set of keys, i.e. emojis or aliases, pointing to emojis.
+ * The trie is immutable once built and can be shared between threads.
+ * Matching is done by walking the trie from a start position and remembering the last terminal node,
+ * which results in the longest key starting at that position without allocating anything.
+ */
+final class EmojiTrie {
+
+    static final int NO_MATCH = -1;
+    private static final int ROOT = 0;
+    // Candidates near the start are usual in texts with emojis, so only longer searches are vectorized
+    private static final int SCALAR_SEARCH_LENGTH = 64;
+    // First code points of the regex are merged into a range if they are at most this far apart
+    private static final int REGEX_FIRST_RANGE_MAX_GAP = 256;
+    // Chunks start at the scalar search length and double, so only little is copied if a candidate is near
+    private static final int VECTORIZED_SEARCH_MAX_CHUNK_LENGTH = 4096;
+    private static final ThreadLocal<char[]> VECTORIZED_SEARCH_CHUNK = ThreadLocal.withInitial(() -> new char[VECTORIZED_SEARCH_MAX_CHUNK_LENGTH]);
+
+    // The edges of node n are stored in [edgeStart[n], edgeStart[n + 1]) sorted ascending by code point
+    private final int[] edgeStart;
+    private final int[] edgeCodePoint;
+    private final int[] edgeTarget;
+    // The emoji ending at a node or null if the node is not terminal
+    private final Emoji[] nodeEmoji;
+    // The number of chars from the root to a node
+    private final int[] nodeCharLength;
+    private final int maxCharLength;
+    // The children of the root are looked up directly by their code point for the BMP and by an open addressing
+    // hash table for supplementary code points, because every position of a text has to be looked up at the root
+    private final int[] bmpRootChild;
+    private final int[] supplementaryRootCodePoint;
+    private final int[] supplementaryRootChild;
+    // A bit for every char a key can start with, the high surrogate for supplementary code points
+    private final long[] firstCharBits;
+    // The lowest and highest first char of the keys in ascii, in the rest of the BMP and in the high surrogates
+    private final char[] firstCharRanges;
+    // All code points following another code point in a key, sorted ascending
+    private final int[] innerCodePoints;
+
+    /**
+     * Creates a trie matching the given emojis.
+     *
+     * @param emojis The emojis to match.
+     */
+    EmojiTrie(final Collection<Emoji> emojis) {
+        this(mapEmojis(emojis));
+    }
+
+    /**
+     * Creates a trie matching the given keys.
+     *
+     * @param keyToEmoji The keys to match and the emoji each key resolves to.
+     */
+    EmojiTrie(final Map<String, Emoji> keyToEmoji) {
+        final BuildNode root = new BuildNode(0);
+        int nodeCount = 1;
+        int maxKeyCharLength = 0;
+        for (final Map.Entry<String, Emoji> keyEntry : keyToEmoji.entrySet()) {
+            BuildNode node = root;
+            final Emoji emoji = keyEntry.getValue();
+            final int[] codePoints = keyEntry.getKey().equals(emoji.getEmoji()) ? emoji.getCodePointArray() : keyEntry.getKey().codePoints().toArray();
+            for (final int codePoint : codePoints) {
+                BuildNode child = node.children.get(codePoint);
+                if (child == null) {
+                    child = new BuildNode(node.charLength + Character.charCount(codePoint));
+                    node.children.put(codePoint, child);
+                    nodeCount++;
+                }
+                node = child;
+            }
+            node.emoji = emoji;
+            maxKeyCharLength = Math.max(maxKeyCharLength, node.charLength);
+        }
+        maxCharLength = maxKeyCharLength;
+
+        edgeStart = new int[nodeCount + 1];
+        edgeCodePoint = new int[nodeCount - 1];
+        edgeTarget = new int[nodeCount - 1];
+        nodeEmoji = new Emoji[nodeCount];
+        nodeCharLength = new int[nodeCount];
+
+        // Number the nodes breadth first, so the edges of each node end up next to each other
+        final Queue<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int nextIndex = 1;
+        int edgeIndex = 0;
+        for (int index = 0; !queue.isEmpty(); index++) {
+            final BuildNode node = queue.poll();
+            nodeEmoji[index] = node.emoji;
+            nodeCharLength[index] = node.charLength;
+            edgeStart[index] = edgeIndex;
+            for (final Map.Entry<Integer, BuildNode> entry : node.children.entrySet()) {
+                edgeCodePoint[edgeIndex] = entry.getKey();
+                edgeTarget[edgeIndex] = nextIndex++;
+                edgeIndex++;
+                queue.add(entry.getValue());
+            }
+        }
+        edgeStart[nodeCount] = edgeIndex;
+        innerCodePoints = Arrays.stream(edgeCodePoint, edgeStart[ROOT + 1], edgeIndex).sorted().distinct().toArray();
+
+        int maxBmpCodePoint = -1;
+        int supplementaryCount = 0;
+        int maxFirstChar = -1;
+        for (int edge = edgeStart[ROOT]; edge < edgeStart[ROOT + 1]; edge++) {
+            if (Character.isBmpCodePoint(edgeCodePoint[edge])) {
+                maxBmpCodePoint = edgeCodePoint[edge];
+            } else {
+                supplementaryCount++;
+            }
+            maxFirstChar = Math.max(maxFirstChar, getFirstChar(edgeCodePoint[edge]));
+        }
+        firstCharBits = new long[(maxFirstChar >> 6) + 1];
+        firstCharRanges = new char[]{Character.MAX_VALUE, 0, Character.MAX_VALUE, 0, Character.MAX_VALUE, 0};
+        bmpRootChild = new int[maxBmpCodePoint + 1];
+        Arrays.fill(bmpRootChild, NO_MATCH);
+        // Keep the table at most half full, so lookups of missing code points end quickly
+        supplementaryRootCodePoint = new int[Integer.highestOneBit(Math.max(1, supplementaryCount) * 4 - 1)];
+        supplementaryRootChild = new int[supplementaryRootCodePoint.length];
+        Arrays.fill(supplementaryRootCodePoint, NO_MATCH);
+        for (int edge = edgeStart[ROOT]; edge < edgeStart[ROOT + 1]; edge++) {
+            final int codePoint = edgeCodePoint[edge];
+            final char firstChar = getFirstChar(codePoint);
+            firstCharBits[firstChar >>> 6] |= 1L << firstChar;
+            final int range = firstChar < 0x80 ? 0 : Character.isHighSurrogate(firstChar) ? 4 : 2;
+            firstCharRanges[range] = (char) Math.min(firstCharRanges[range], firstChar);
+            firstCharRanges[range + 1] = (char) Math.max(firstCharRanges[range + 1], firstChar);
+            if (Character.isBmpCodePoint(codePoint)) {
+                bmpRootChild[codePoint] = edgeTarget[edge];
+                continue;
+            }
+            int slot = getSupplementaryRootSlot(codePoint);
+            while (supplementaryRootCodePoint[slot] != NO_MATCH) {
+                slot = (slot + 1) & (supplementaryRootCodePoint.length - 1);
+            }
+            supplementaryRootCodePoint[slot] = codePoint;
+            supplementaryRootChild[slot] = edgeTarget[edge];
+        }
+    }
+
+    /**
+     * Finds the longest key in the given text beginning at the start index.
+     *
+     * @param text  The text to search in.
+     * @param start The char index of the first char of the key.
+     * @param end   The char index after the last char which may be part of the key.
+     * @return The node of the longest matching key or {@link #NO_MATCH}.
+     */
+    int findLongestMatch(final CharSequence text, final int start, final int end) {
+        int match = NO_MATCH;
+        int node = ROOT;
+        for (int i = start; i < end; ) {
+            final char high = text.charAt(i++);
+            int codePoint = high;
+            if (Character.isHighSurrogate(high) && i < end) {
+                final char low = text.charAt(i);
+                if (Character.isLowSurrogate(low)) {
+                    codePoint = Character.toCodePoint(high, low);
+                    i++;
+                }
+            }
+            node = node == ROOT ? getRootChild(codePoint) : getChild(node, codePoint);
+            if (node == NO_MATCH) break;
+            if (nodeEmoji[node] != null) match = node;
+        }
+        return match;
+    }
+
+    /**
+     * Finds the next index in the given text at which a key may start.
+     * This only checks a single char per index, so the remaining text can be skipped quickly if it has no keys.
+     *
+     * @param text  The text to search in.
+     * @param start The char index to start searching at.
+     * @param end   The char index to stop searching at.
+     * @return The char index at which a key may start or the end index.
+     */
+    int findNextCandidate(final CharSequence text, final int start, final int end) {
+        final long[] bits = firstCharBits;
+        final int maxWord = bits.length;
+        final int scalarEnd = VectorizedSearch.AVAILABLE ? Math.min(end, start + SCALAR_SEARCH_LENGTH) : end;
+        for (int i = start; i < scalarEnd; i++) {
+            final char c = text.charAt(i);
+            final int word = c >>> 6;
+            if (word < maxWord && (bits[word] & (1L << c)) != 0) return i;
+        }
+        if (scalarEnd == end) return end;
+        return findNextCandidateVectorized(text, scalarEnd, end);
+    }
+
+    private int findNextCandidateVectorized(final CharSequence text, final int start, final int end) {
+        final char[] chunk = VECTORIZED_SEARCH_CHUNK.get();
+        int maxChunkLength = SCALAR_SEARCH_LENGTH;
+        for (int chunkStart = start; chunkStart < end; ) {
+            final int chunkLength = Math.min(maxChunkLength, end - chunkStart);
+            getChars(text, chunkStart, chunkStart + chunkLength, chunk);
+            final int index = VectorizedSearch.findNextCandidate(chunk, chunkLength, firstCharRanges, firstCharBits);
+            if (index < chunkLength) return chunkStart + index;
+            chunkStart += chunkLength;
+            maxChunkLength = Math.min(maxChunkLength << 1, VECTORIZED_SEARCH_MAX_CHUNK_LENGTH);
+        }
+        return end;
+    }
+
+    private static void getChars(final CharSequence text, final int start, final int end, final char[] destination) {
+        if (text instanceof String) {
+            ((String) text).getChars(start, end, destination, 0);
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(start, end, destination, 0);
+        } else if (text instanceof CharBuffer && ((CharBuffer) text).hasArray()) {
+            final CharBuffer charBuffer = (CharBuffer) text;
+            System.arraycopy(charBuffer.array(), charBuffer.arrayOffset() + charBuffer.position() + start, destination, 0, end - start);
+        } else {
+            for (int i = start; i < end; i++) {
+                destination[i - start] = text.charAt(i);
+            }
+        }
+    }
+
+    /**
+     * Checks if no key can span the given index of the text, so the text can be searched on both sides of the index
+     * independently. This is the case if the code point at the index never follows another code point in a key.
+     *
+     * @param text  The text to check.
+     * @param index The char index to check.
+     * @return True if no key can span the index.
+     */
+    boolean isSafeSplit(final CharSequence text, final int index) {
+        if (index <= 0 || index >= text.length()) return true;
+        final char c = text.charAt(index);
+        if (Character.isLowSurrogate(c) && Character.isHighSurrogate(text.charAt(index - 1))) return false;
+        return Arrays.binarySearch(innerCodePoints, Character.codePointAt(text, index)) < 0;
+    }
+
+    /**
+     * Gets the emoji of a matched node.
+     *
+     * @param node The matched node.
+     * @return The emoji.
+     */
+    Emoji getEmoji(final int node) {
+        return nodeEmoji[node];
+    }
+
+    /**
+     * Gets the char length of a matched node.
+     *
+     * @param node The matched node.
+     * @return The number of chars of the matched key.
+     */
+    int getCharLength(final int node) {
+        return nodeCharLength[node];
+    }
+
+    /**
+     * Gets the char length of the longest key in this trie.
+     *
+     * @return The maximum number of chars a match can span.
+     */
+    int getMaxCharLength() {
+        return maxCharLength;
+    }
+
+    /**
+     * Creates a regular expression matching the same keys as this trie.
+     * The expression shares common prefixes like the trie does, uses character classes for keys ending at the same
+     * depth and does not contain any capturing groups. Greedy optional groups result in the longest key being matched.
+     *
+     * @return The regular expression.
+     */
+    String toRegex() {
+        if (edgeStart[ROOT] == edgeStart[ROOT + 1]) return "(?!)";
+
+        final int from = edgeStart[ROOT];
+        final int to = edgeStart[ROOT + 1];
+        final StringBuilder sb = new StringBuilder();
+        // Reject most text with a class of only a few ranges, the exact class of first code points has many.
+        // Ascii is kept exact, as it is most of the text, other first code points close to each other are merged
+        sb.append("(?=[");
+        int nonAsciiFrom = from;
+        while (nonAsciiFrom < to && edgeCodePoint[nonAsciiFrom] < 0x80) nonAsciiFrom++;
+        appendRanges(sb, edgeCodePoint, from, nonAsciiFrom, 1);
+        appendRanges(sb, edgeCodePoint, nonAsciiFrom, to, REGEX_FIRST_RANGE_MAX_GAP);
+        // Check all possible first code points at once, before trying the alternatives one by one
+        sb.append("])(?=");
+        appendCharacterClass(sb, edgeCodePoint, from, to);
+        sb.append(")(?:");
+        appendRegex(sb, ROOT);
+        return sb.append(')').toString();
+    }
+
+    private void appendRegex(final StringBuilder sb, final int node) {
+        final int from = edgeStart[node];
+        final int to = edgeStart[node + 1];
+
+        // Children without children of their own are combined into one character class
+        final int[] leafCodePoints = new int[to - from];
+        int leafCount = 0;
+        for (int edge = from; edge < to; edge++) {
+            if (isLeaf(edgeTarget[edge])) leafCodePoints[leafCount++] = edgeCodePoint[edge];
+        }
+
+        boolean first = true;
+        if (leafCount > 0) {
+            appendCharacterClass(sb, leafCodePoints, 0, leafCount);
+            first = false;
+        }
+        for (int edge = from; edge < to; edge++) {
+            final int child = edgeTarget[edge];
+            if (isLeaf(child)) continue;
+            if (!first) sb.append('|');
+            first = false;
+            appendCodePoint(sb, edgeCodePoint[edge]);
+            sb.append("(?:");
+            appendRegex(sb, child);
+            sb.append(')');
+            if (nodeEmoji[child] != null) sb.append('?');
+        }
+    }
+
+    private boolean isLeaf(final int node) {
+        return edgeStart[node] == edgeStart[node + 1];
+    }
+
+    private static void appendCharacterClass(final StringBuilder sb, final int[] sortedCodePoints, final int from, final int to) {
+        if (to - from == 1) {
+            appendCodePoint(sb, sortedCodePoints[from]);
+            return;
+        }
+        sb.append('[');
+        appendRanges(sb, sortedCodePoints, from, to, 1);
+        sb.append(']');
+    }
+
+    /**
+     * Appends the code points as ranges, where a range also covers the gaps between code points at most the given
+     * gap apart. With a gap of 1 only consecutive code points are merged and exactly the given code points are covered.
+     */
+    private static void appendRanges(final StringBuilder sb, final int[] sortedCodePoints, final int from, final int to, final int maxGap) {
+        for (int i = from; i < to; ) {
+            int rangeEnd = i;
+            while (rangeEnd + 1 < to && sortedCodePoints[rangeEnd + 1] - sortedCodePoints[rangeEnd] <= maxGap) rangeEnd++;
+            appendCodePoint(sb, sortedCodePoints[i]);
+            if (rangeEnd > i) {
+                if (sortedCodePoints[rangeEnd] > sortedCodePoints[i] + 1) sb.append('-');
+                appendCodePoint(sb, sortedCodePoints[rangeEnd]);
+            }
+            i = rangeEnd + 1;
+        }
+    }
+
+    private static void appendCodePoint(final StringBuilder sb, final int codePoint) {
+        sb.append("\\x{").append(Integer.toHexString(codePoint)).append('}');
+    }
+
+    private static char getFirstChar(final int codePoint) {
+        return Character.isBmpCodePoint(codePoint) ? (char) codePoint : Character.highSurrogate(codePoint);
+    }
+
+    private static Map<String, Emoji> mapEmojis(final Collection<Emoji> emojis) {
+        final Map<String, Emoji> emojiToEmoji = new HashMap<>();
+        for (final Emoji emoji : emojis) {
+            emojiToEmoji.put(emoji.getEmoji(), emoji);
+        }
+        return emojiToEmoji;
+    }
+
+    private int getRootChild(final int codePoint) {
+        if (codePoint < bmpRootChild.length) return bmpRootChild[codePoint];
+        if (Character.isBmpCodePoint(codePoint)) return NO_MATCH;
+
+        for (int slot = getSupplementaryRootSlot(codePoint); ; slot = (slot + 1) & (supplementaryRootCodePoint.length - 1)) {
+            final int slotCodePoint = supplementaryRootCodePoint[slot];
+            if (slotCodePoint == codePoint) return supplementaryRootChild[slot];
+            if (slotCodePoint == NO_MATCH) return NO_MATCH;
+        }
+    }
+
+    private int getSupplementaryRootSlot(final int codePoint) {
+        return (codePoint * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(supplementaryRootCodePoint.length - 1));
+    }
+
+    private int getChild(final int node, final int codePoint) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midCodePoint = edgeCodePoint[mid];
+            if (midCodePoint < codePoint) {
+                low = mid + 1;
+            } else if (midCodePoint > codePoint) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private static final class BuildNode {
+        private final TreeMap<Integer, BuildNode> children = new TreeMap<>();
+        private final int charLength;
+        private Emoji emoji;
+
+        private BuildNode(final int charLength) {
+            this.charLength = charLength;
+        }
+    }
+}
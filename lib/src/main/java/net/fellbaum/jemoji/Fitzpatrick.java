@@ -44,8 +44,8 @@ public enum Fitzpatrick {
      * @return The unicode of the emoji without the fitzpatrick modifier.
      */
     public static String removeFitzpatrick(String unicode) {
-        for (Fitzpatrick value : FITZPATRICK_LIST) {
-            unicode = unicode.replaceAll("\u200D?" + value.getUnicode(), "");
+        for (final Fitzpatrick fitzpatrick : FITZPATRICK_LIST) {
+            unicode = EmojiManager.removeWithJoiner(unicode, fitzpatrick.unicode);
         }
         return unicode;
     }
@@ -43,10 +43,9 @@ public enum HairStyle {
      * @return The unicode of the emoji without the hairstyle element.
      */
     public static String removeHairStyle(String unicode) {
-        for (HairStyle value : HAIR_STYLE_LIST) {
-            unicode = unicode.replaceAll("\u200D?" + value.getUnicode(), "");
+        for (final HairStyle hairStyle : HAIR_STYLE_LIST) {
+            unicode = EmojiManager.removeWithJoiner(unicode, hairStyle.unicode);
         }
         return unicode;
     }
-
 }
@@ -0,0 +1,25 @@
+package net.fellbaum.jemoji;
+
+import java.util.function.Function;
+
+public enum HtmlEntityType {
+
+    DECIMAL(Emoji::getHtmlDecimalCode),
+    HEXADECIMAL(Emoji::getHtmlHexadecimalCode);
+
+    private final Function<Emoji, String> entityFunction;
+
+    HtmlEntityType(final Function<Emoji, String> entityFunction) {
+        this.entityFunction = entityFunction;
+    }
+
+    /**
+     * Gets the HTML entities of the given emoji in this notation i.e. &amp;#x1F44D;.
+     *
+     * @param emoji The emoji to get the HTML entities for.
+     * @return The HTML entities of the emoji.
+     */
+    public String getEntities(final Emoji emoji) {
+        return entityFunction.apply(emoji);
+    }
+}
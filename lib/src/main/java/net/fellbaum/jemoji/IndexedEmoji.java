@@ -0,0 +1,101 @@
+package net.fellbaum.jemoji;
+
+/**
+ * An emoji found in a text together with its position in that text.
+ */
+public final class IndexedEmoji {
+
+    private final Emoji emoji;
+    private final int charIndex;
+    private final int endCharIndex;
+    private final int codePointIndex;
+    private final int endCodePointIndex;
+
+    IndexedEmoji(final Emoji emoji, final int charIndex, final int endCharIndex, final int codePointIndex, final int endCodePointIndex) {
+        this.emoji = emoji;
+        this.charIndex = charIndex;
+        this.endCharIndex = endCharIndex;
+        this.codePointIndex = codePointIndex;
+        this.endCodePointIndex = endCodePointIndex;
+    }
+
+    /**
+     * Gets the emoji.
+     *
+     * @return The emoji.
+     */
+    public Emoji getEmoji() {
+        return emoji;
+    }
+
+    /**
+     * Gets the char index of the first char of the emoji in the text.
+     *
+     * @return The char index at which the emoji starts.
+     */
+    public int getCharIndex() {
+        return charIndex;
+    }
+
+    /**
+     * Gets the char index after the last char of the emoji in the text.
+     *
+     * @return The char index at which the emoji ends, exclusive.
+     */
+    public int getEndCharIndex() {
+        return endCharIndex;
+    }
+
+    /**
+     * Gets the code point index of the first code point of the emoji in the text.
+     *
+     * @return The code point index at which the emoji starts.
+     */
+    public int getCodePointIndex() {
+        return codePointIndex;
+    }
+
+    /**
+     * Gets the code point index after the last code point of the emoji in the text.
+     *
+     * @return The code point index at which the emoji ends, exclusive.
+     */
+    public int getEndCodePointIndex() {
+        return endCodePointIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedEmoji{" +
+                "emoji=" + emoji +
+                ", charIndex=" + charIndex +
+                ", endCharIndex=" + endCharIndex +
+                ", codePointIndex=" + codePointIndex +
+                ", endCodePointIndex=" + endCodePointIndex +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        IndexedEmoji that = (IndexedEmoji) o;
+
+        if (charIndex != that.charIndex) return false;
+        if (endCharIndex != that.endCharIndex) return false;
+        if (codePointIndex != that.codePointIndex) return false;
+        if (endCodePointIndex != that.endCodePointIndex) return false;
+        return emoji.equals(that.emoji);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = emoji.hashCode();
+        result = 31 * result + charIndex;
+        result = 31 * result + endCharIndex;
+        result = 31 * result + codePointIndex;
+        result = 31 * result + endCodePointIndex;
+        return result;
+    }
+}
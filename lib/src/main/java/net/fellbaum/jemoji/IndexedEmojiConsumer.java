@@ -0,0 +1,19 @@
+package net.fellbaum.jemoji;
+
+/**
+ * Receives the emojis found in a text together with their char positions.
+ *
+ * @see EmojiManager#forEachEmoji(CharSequence, IndexedEmojiConsumer)
+ */
+@FunctionalInterface
+public interface IndexedEmojiConsumer {
+
+    /**
+     * Called for every emoji found in the text.
+     *
+     * @param emoji        The emoji.
+     * @param charIndex    The char index of the first char of the emoji in the text.
+     * @param endCharIndex The char index after the last char of the emoji in the text.
+     */
+    void accept(Emoji emoji, int charIndex, int endCharIndex);
+}
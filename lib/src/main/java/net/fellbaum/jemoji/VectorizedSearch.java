@@ -0,0 +1,38 @@
+package net.fellbaum.jemoji;
+
+/**
+ * Searches chars in bulk with the Vector API.
+ * The Vector API is not available before Java 17, so this class is replaced by the Java 17 version of the
+ * multi-release jar. This version searches char by char and is not used by {@link EmojiTrie}, which searches the
+ * text itself if the Vector API is not available.
+ */
+final class VectorizedSearch {
+
+    static final boolean AVAILABLE;
+
+    static {
+        // Not a constant, so it is not inlined into the callers and the Java 17 version of this class takes effect
+        AVAILABLE = false;
+    }
+
+    private VectorizedSearch() {
+    }
+
+    /**
+     * Finds the first char which is in the first char bitset.
+     *
+     * @param chars           The chars to search in.
+     * @param length          The number of chars to search, starting at the first one.
+     * @param firstCharRanges The lowest and highest first char in ascii, in the rest of the BMP and in the high surrogates.
+     * @param firstCharBits   The bitset of all first chars.
+     * @return The index of the first char in the bitset or the length.
+     */
+    static int findNextCandidate(final char[] chars, final int length, final char[] firstCharRanges, final long[] firstCharBits) {
+        for (int i = 0; i < length; i++) {
+            final char c = chars[i];
+            final int word = c >>> 6;
+            if (word < firstCharBits.length && (firstCharBits[word] & (1L << c)) != 0) return i;
+        }
+        return length;
+    }
+}
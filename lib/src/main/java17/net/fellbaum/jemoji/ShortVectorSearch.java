@@ -0,0 +1,50 @@
+package net.fellbaum.jemoji;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Compares as many chars at once as the CPU supports, to find chars in the first char ranges.
+ * Only the chars in the ranges are checked against the exact bitset one by one.
+ */
+final class ShortVectorSearch {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    private ShortVectorSearch() {
+    }
+
+    static int findNextCandidate(final char[] chars, final int length, final char[] firstCharRanges, final long[] firstCharBits) {
+        final int vectorEnd = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < vectorEnd; i += SPECIES.length()) {
+            final ShortVector vector = ShortVector.fromCharArray(SPECIES, chars, i);
+            final VectorMask<Short> mask = inRange(vector, firstCharRanges[0], firstCharRanges[1])
+                    .or(inRange(vector, firstCharRanges[2], firstCharRanges[3]))
+                    .or(inRange(vector, firstCharRanges[4], firstCharRanges[5]));
+            if (!mask.anyTrue()) continue;
+
+            for (long lanes = mask.toLong(); lanes != 0; lanes &= lanes - 1) {
+                final int index = i + Long.numberOfTrailingZeros(lanes);
+                if (isFirstChar(chars[index], firstCharBits)) return index;
+            }
+        }
+        for (; i < length; i++) {
+            if (isFirstChar(chars[i], firstCharBits)) return i;
+        }
+        return length;
+    }
+
+    private static VectorMask<Short> inRange(final ShortVector vector, final char low, final char high) {
+        // An empty range has its low above its high, which no char can be in
+        if (low > high) return SPECIES.maskAll(false);
+        return vector.sub((short) low).compare(VectorOperators.UNSIGNED_LE, (short) (high - low));
+    }
+
+    private static boolean isFirstChar(final char c, final long[] firstCharBits) {
+        final int word = c >>> 6;
+        return word < firstCharBits.length && (firstCharBits[word] & (1L << c)) != 0;
+    }
+}
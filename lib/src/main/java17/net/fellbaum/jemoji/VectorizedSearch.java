@@ -0,0 +1,30 @@
+package net.fellbaum.jemoji;
+
+/**
+ * Searches chars in bulk with the Vector API.
+ * The Vector API is only used if the incubator module jdk.incubator.vector was added to the module graph, i.e. with
+ * {@code --add-modules jdk.incubator.vector}, and the system property {@code jemoji.disableVectorizedSearch} is not
+ * set to true. Otherwise searches are done char by char.
+ */
+final class VectorizedSearch {
+
+    static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("jemoji.disableVectorizedSearch");
+
+    private VectorizedSearch() {
+    }
+
+    /**
+     * Finds the first char which is in the first char bitset.
+     *
+     * @param chars           The chars to search in.
+     * @param length          The number of chars to search, starting at the first one.
+     * @param firstCharRanges The lowest and highest first char in ascii, in the rest of the BMP and in the high surrogates.
+     * @param firstCharBits   The bitset of all first chars.
+     * @return The index of the first char in the bitset or the length.
+     */
+    static int findNextCandidate(final char[] chars, final int length, final char[] firstCharRanges, final long[] firstCharBits) {
+        // The vector classes are only loaded here, after the module has been found
+        return ShortVectorSearch.findNextCandidate(chars, length, firstCharRanges, firstCharBits);
+    }
+}
@@ -0,0 +1,90 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class EmojiCounterTest {
+
+    private static final Emoji THUMBS_UP = EmojiManager.getEmoji("👍").orElseThrow(RuntimeException::new);
+    private static final Emoji HEART = EmojiManager.getEmoji("❤️").orElseThrow(RuntimeException::new);
+    private static final Emoji SMILE = EmojiManager.getEmoji("😄").orElseThrow(RuntimeException::new);
+
+    @Test
+    public void countEmojis() {
+        final EmojiCounter counter = EmojiManager.countEmojis("👍 ❤️ hi 👍 😄 👍 ❤️");
+
+        assertEquals(3, counter.getCount(THUMBS_UP));
+        assertEquals(2, counter.getCount(HEART));
+        assertEquals(1, counter.getCount(SMILE));
+        assertEquals(6, counter.getTotalCount());
+        assertEquals(Arrays.asList(THUMBS_UP, HEART), counter.getTop(2));
+        assertEquals(Arrays.asList(THUMBS_UP, HEART, SMILE), counter.getTop(10));
+        assertEquals(Long.valueOf(3), counter.getTopCounts(1).get(THUMBS_UP));
+    }
+
+    @Test
+    public void countEmojisMatchesExtractEmojisInOrder() {
+        final String text = EmojiManagerTest.ALL_EMOJIS_STRING + "👍 ❤️ 👨🏿‍🦱 👍";
+        final Map<Emoji, Long> expected = EmojiManager.extractEmojisInOrder(text).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertEquals(expected, EmojiManager.countEmojis(text).toMap());
+    }
+
+    @Test
+    public void accumulateIntoCounter() {
+        final EmojiCounter counter = new EmojiCounter();
+        EmojiManager.countEmojis("👍 ❤️", counter);
+        EmojiManager.countEmojis("👍 no emojis", counter);
+        counter.add(SMILE);
+
+        final EmojiCounter other = EmojiManager.countEmojis("😄");
+        counter.addAll(other);
+
+        assertEquals(2, counter.getCount(THUMBS_UP));
+        assertEquals(2, counter.getCount(SMILE));
+        assertEquals(5, counter.getTotalCount());
+
+        counter.clear();
+        assertEquals(0, counter.getTotalCount());
+        assertEquals(Collections.emptyList(), counter.getTop(5));
+    }
+
+    @Test
+    public void emojiIdsAreDense() {
+        final boolean[] usedIds = new boolean[EmojiManager.getAllEmojis().size()];
+        for (final Emoji emoji : EmojiManager.getAllEmojis()) {
+            assertFalse(usedIds[emoji.getId()]);
+            usedIds[emoji.getId()] = true;
+            assertSame(emoji, EmojiManager.getEmojiById(emoji.getId()));
+        }
+    }
+
+    @Test
+    public void getTopCountsMatchesSortedCounts() {
+        final List<Emoji> emojis = EmojiManager.getAllEmojisLengthDescending();
+        final Random random = new Random(42);
+        final EmojiCounter counter = new EmojiCounter();
+        for (int i = 0; i < 20_000; i++) {
+            // Few distinct counts, so many emojis have the same count
+            counter.add(emojis.get(random.nextInt(500)));
+        }
+
+        final List<Emoji> sortedEmojis = counter.toMap().entrySet().stream()
+                .sorted(Map.Entry.<Emoji, Long>comparingByValue().reversed().thenComparing(entry -> entry.getKey().getId()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        for (final int limit : new int[]{0, 1, 7, 100, 499, 500, 10_000}) {
+            assertEquals(sortedEmojis.subList(0, Math.min(limit, sortedEmojis.size())), counter.getTop(limit));
+        }
+    }
+}
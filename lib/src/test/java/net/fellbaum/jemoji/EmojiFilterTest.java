@@ -0,0 +1,34 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class EmojiFilterTest {
+
+    private static final String TEXT = "Hello ❤️ World 👍 and 👨‍👩‍👧‍👦";
+
+    @Test
+    public void matchesEmojiManager() {
+        final Emoji heart = EmojiManager.getEmoji("❤️").orElseThrow(RuntimeException::new);
+        final Emoji thumbsUp = EmojiManager.getEmoji("👍").orElseThrow(RuntimeException::new);
+        final EmojiFilter filter = EmojiFilter.of(heart, thumbsUp);
+
+        assertTrue(filter.containsEmoji(TEXT));
+        assertEquals(Arrays.asList(heart, thumbsUp), filter.extractEmojisInOrder(TEXT));
+        assertEquals(EmojiManager.removeEmojis(TEXT, Arrays.asList(heart, thumbsUp)), filter.removeEmojis(TEXT));
+        assertEquals("Hello <> World <> and 👨‍👩‍👧‍👦", filter.replaceEmojis(TEXT, "<>"));
+    }
+
+    @Test
+    public void emptyFilter() {
+        final EmojiFilter filter = EmojiFilter.of(Collections.emptyList());
+
+        assertFalse(filter.containsEmoji(TEXT));
+        assertTrue(filter.extractEmojisInOrder(TEXT).isEmpty());
+        assertEquals(TEXT, filter.removeEmojis(TEXT));
+    }
+}
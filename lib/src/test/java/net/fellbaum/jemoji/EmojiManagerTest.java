@@ -3,11 +3,17 @@ package net.fellbaum.jemoji;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
 public class EmojiManagerTest {
@@ -26,6 +32,108 @@ public class EmojiManagerTest {
         Assert.assertEquals(allEmojis, emojis);
     }
 
+    @Test
+    public void extractEmojisInOrderLongestMatch() {
+        List<Emoji> emojis = EmojiManager.extractEmojisInOrder("👨‍👩‍👧‍👦 👨 1️⃣ 🇩🇪");
+
+        Assert.assertEquals(4, emojis.size());
+        Assert.assertEquals("👨‍👩‍👧‍👦", emojis.get(0).getEmoji());
+        Assert.assertEquals("👨", emojis.get(1).getEmoji());
+        Assert.assertEquals("1️⃣", emojis.get(2).getEmoji());
+        Assert.assertEquals("🇩🇪", emojis.get(3).getEmoji());
+    }
+
+    @Test
+    public void extractEmojisInOrderFromCharSequence() {
+        List<Emoji> expected = EmojiManager.extractEmojisInOrder(SIMPLE_EMOJI_STRING + " 👍 👨🏿‍🦱");
+
+        Assert.assertEquals(expected, EmojiManager.extractEmojisInOrder(new StringBuilder(SIMPLE_EMOJI_STRING).append(" 👍 👨🏿‍🦱")));
+        Assert.assertEquals(expected, EmojiManager.extractEmojisInOrder(CharBuffer.wrap(SIMPLE_EMOJI_STRING + " 👍 👨🏿‍🦱")));
+        Assert.assertEquals("Hello  World", EmojiManager.removeAllEmojis(CharBuffer.wrap(SIMPLE_EMOJI_STRING)));
+    }
+
+    @Test
+    public void extractEmojisInOrderParallel() {
+        List<Emoji> allEmojis = EmojiManager.getAllEmojisLengthDescending();
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 1_000_000) {
+            int next = random.nextInt(10);
+            if (next < 4) {
+                sb.append(allEmojis.get(random.nextInt(allEmojis.size())).getEmoji());
+            } else if (next < 5) {
+                sb.append("🇩🇪🇫🇷🇮🇹");
+            } else {
+                sb.append("text ");
+            }
+        }
+        String text = sb.toString();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assert.assertEquals(EmojiManager.extractEmojisInOrder(text), EmojiManager.extractEmojisInOrderParallel(text, pool));
+            String onlyFlags = String.join("", Collections.nCopies(100_000, "🇩🇪"));
+            Assert.assertEquals(EmojiManager.extractEmojisInOrder(onlyFlags), EmojiManager.extractEmojisInOrderParallel(onlyFlags, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void extractEmojisInOrderBatch() {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            texts.add(i % 3 == 0 ? "no emojis " + i : "Hello ❤️ " + i + " 👍");
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<List<Emoji>> emojis = EmojiManager.extractEmojisInOrder(texts, pool);
+            List<String> removed = EmojiManager.removeAllEmojis(texts, pool);
+
+            Assert.assertEquals(texts.size(), emojis.size());
+            Assert.assertEquals(texts.size(), removed.size());
+            for (int i = 0; i < texts.size(); i++) {
+                Assert.assertEquals(EmojiManager.extractEmojisInOrder(texts.get(i)), emojis.get(i));
+                Assert.assertEquals(EmojiManager.removeAllEmojis(texts.get(i)), removed.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertEquals(Collections.singletonList(Collections.emptyList()), EmojiManager.extractEmojisInOrder(Collections.singletonList("")));
+    }
+
+    @Test
+    public void extractEmojisInOrderWithIndex() {
+        String text = "a👍b👨🏿‍🦱c";
+        List<IndexedEmoji> emojis = EmojiManager.extractEmojisInOrderWithIndex(text);
+
+        Assert.assertEquals(2, emojis.size());
+        Assert.assertEquals("👍", emojis.get(0).getEmoji().getEmoji());
+        Assert.assertEquals(1, emojis.get(0).getCharIndex());
+        Assert.assertEquals(3, emojis.get(0).getEndCharIndex());
+        Assert.assertEquals(1, emojis.get(0).getCodePointIndex());
+        Assert.assertEquals(2, emojis.get(0).getEndCodePointIndex());
+        Assert.assertEquals("👨🏿‍🦱", emojis.get(1).getEmoji().getEmoji());
+        Assert.assertEquals(4, emojis.get(1).getCharIndex());
+        Assert.assertEquals(11, emojis.get(1).getEndCharIndex());
+        Assert.assertEquals(3, emojis.get(1).getCodePointIndex());
+        Assert.assertEquals(7, emojis.get(1).getEndCodePointIndex());
+    }
+
+    @Test
+    public void forEachEmoji() {
+        String text = "Hello 👍 World 👨🏿‍🦱";
+        StringBuilder sb = new StringBuilder();
+        int[] appendedIndex = {0};
+        EmojiManager.forEachEmoji(text, (emoji, charIndex, endCharIndex) -> {
+            sb.append(text, appendedIndex[0], charIndex).append("<span>").append(emoji.getEmoji()).append("</span>");
+            appendedIndex[0] = endCharIndex;
+        });
+        sb.append(text, appendedIndex[0], text.length());
+
+        Assert.assertEquals("Hello <span>👍</span> World <span>👨🏿‍🦱</span>", sb.toString());
+    }
+
     @Test
     public void extractEmojis() {
         Set<Emoji> emojis = EmojiManager.extractEmojis(ALL_EMOJIS_STRING + ALL_EMOJIS_STRING);
@@ -35,6 +143,30 @@ public class EmojiManagerTest {
         Assert.assertEquals(allEmojis, emojis);
     }
 
+    @Test
+    public void getAllEmojisByGroup() {
+        Set<Emoji> emojis = EmojiManager.getAllEmojisByGroup(EmojiGroup.FLAGS);
+
+        Assert.assertFalse(emojis.isEmpty());
+        Assert.assertTrue(emojis.stream().allMatch(emoji -> emoji.getGroup() == EmojiGroup.FLAGS));
+        Assert.assertEquals(EmojiManager.getAllEmojis().stream().filter(emoji -> emoji.getGroup() == EmojiGroup.FLAGS).count(), emojis.size());
+        Assert.assertSame(emojis, EmojiManager.getAllEmojisByGroup(EmojiGroup.FLAGS));
+    }
+
+    @Test
+    public void getAllEmojisBySubGroup() {
+        Set<Emoji> emojis = EmojiManager.getAllEmojisBySubGroup(EmojiSubGroup.ANIMAL_BIRD);
+
+        Assert.assertFalse(emojis.isEmpty());
+        Assert.assertEquals(EmojiManager.getAllEmojis().stream().filter(emoji -> emoji.getSubgroup() == EmojiSubGroup.ANIMAL_BIRD).count(), emojis.size());
+        Assert.assertTrue(EmojiManager.getAllEmojisBySubGroup(null).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getAllEmojisIsUnmodifiable() {
+        EmojiManager.getAllEmojis().clear();
+    }
+
     @Test
     public void getEmoji() {
         String emojiString = "👍";
@@ -69,6 +201,40 @@ public class EmojiManagerTest {
         Assert.assertEquals("😄", emoji.get().getEmoji());
     }
 
+    @Test
+    public void getByPlatformAlias() {
+        Assert.assertEquals("😄", EmojiManager.getByDiscordAlias(":D").get().getEmoji());
+        Assert.assertEquals("😄", EmojiManager.getByGithubAlias("smile").get().getEmoji());
+        Assert.assertEquals("😄", EmojiManager.getBySlackAlias(":smile:").get().getEmoji());
+        Assert.assertFalse(EmojiManager.getByGithubAlias(":D").isPresent());
+    }
+
+    @Test
+    public void getEmojiPattern() {
+        String text = ALL_EMOJIS_STRING + SIMPLE_EMOJI_STRING + " 👨‍👩‍👧‍👦 1️⃣ 🇩🇪";
+        Matcher matcher = EmojiManager.getEmojiPattern().matcher(text);
+        List<String> emojis = new ArrayList<>();
+        while (matcher.find()) {
+            emojis.add(matcher.group());
+        }
+
+        Assert.assertEquals(0, matcher.groupCount());
+        Assert.assertEquals(EmojiManager.extractEmojisInOrder(text).stream().map(Emoji::getEmoji).collect(Collectors.toList()), emojis);
+    }
+
+    @Test
+    public void keepsStringMethodsOfPreviousVersions() throws NoSuchMethodException {
+        Assert.assertEquals(boolean.class, EmojiManager.class.getMethod("containsEmoji", String.class).getReturnType());
+        Assert.assertEquals(List.class, EmojiManager.class.getMethod("extractEmojisInOrder", String.class).getReturnType());
+        Assert.assertEquals(Set.class, EmojiManager.class.getMethod("extractEmojis", String.class).getReturnType());
+        Assert.assertEquals(String.class, EmojiManager.class.getMethod("removeAllEmojis", String.class).getReturnType());
+        Assert.assertEquals(String.class, EmojiManager.class.getMethod("removeEmojis", String.class, Collection.class).getReturnType());
+        Assert.assertEquals(String.class, EmojiManager.class.getMethod("removeAllEmojisExcept", String.class, Collection.class).getReturnType());
+        Assert.assertEquals(String.class, EmojiManager.class.getMethod("removeAllEmojisExcept", String.class, Emoji[].class).getReturnType());
+        Assert.assertEquals(String.class, EmojiManager.class.getMethod("replaceAllEmojis", String.class, String.class).getReturnType());
+        Assert.assertEquals(String.class, EmojiManager.class.getMethod("replaceEmojis", String.class, String.class, Collection.class).getReturnType());
+    }
+
     @Test
     public void containsEmoji() {
         Assert.assertTrue(EmojiManager.containsEmoji(SIMPLE_EMOJI_STRING));
@@ -82,6 +248,20 @@ public class EmojiManagerTest {
     @Test
     public void removeAllEmojisExcept() {
         Assert.assertEquals("Hello ❤️ World", EmojiManager.removeAllEmojisExcept(SIMPLE_EMOJI_STRING + "👍", Collections.singletonList(EmojiManager.getEmoji("❤️").get())));
+        Assert.assertEquals("👨‍👩‍👧 ", EmojiManager.removeAllEmojisExcept("👨‍👩‍👧 👨👍", EmojiManager.getEmoji("👨‍👩‍👧").get()));
+        Assert.assertEquals("Hello  World", EmojiManager.removeAllEmojisExcept(SIMPLE_EMOJI_STRING, EmojiSet.of()));
+
+        final String keptText = "👍 hi ❤️ 👍";
+        Assert.assertSame(keptText, EmojiManager.removeAllEmojisExcept(keptText, EmojiManager.extractEmojis(keptText)));
+    }
+
+    @Test
+    public void replaceEmojisWithHtmlEntities() {
+        Assert.assertEquals("Hi &#x1F44D; &#x1F468;&#x200D;&#x1F469;&#x200D;&#x1F467;", EmojiManager.replaceEmojisWithHtmlEntities("Hi 👍 👨‍👩‍👧", HtmlEntityType.HEXADECIMAL));
+        Assert.assertEquals("Hi &#128077;", EmojiManager.replaceEmojisWithHtmlEntities("Hi 👍", HtmlEntityType.DECIMAL));
+
+        final String text = "Hello World";
+        Assert.assertSame(text, EmojiManager.replaceEmojisWithHtmlEntities(text, HtmlEntityType.HEXADECIMAL));
     }
 
     @Test
@@ -93,4 +273,87 @@ public class EmojiManagerTest {
     public void replaceAllEmojis() {
         Assert.assertEquals("Hello something World something something something", EmojiManager.replaceAllEmojis(SIMPLE_EMOJI_STRING + " 👍 👨🏿‍🦱 😊", "something"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void replaceAllEmojisWithFunction() throws IOException {
+        String text = SIMPLE_EMOJI_STRING + " 👍 👨🏿‍🦱";
+        Assert.assertEquals("Hello [red heart] World [thumbs up] [man: dark skin tone, curly hair]", EmojiManager.replaceAllEmojis(text, emoji -> "[" + emoji.getDescription() + "]"));
+
+        StringBuilder sb = new StringBuilder("> ");
+        EmojiManager.replaceAllEmojis(text, Emoji::getHtmlDecimalCode, sb);
+        Assert.assertEquals("> " + EmojiManager.replaceAllEmojis(text, Emoji::getHtmlDecimalCode), sb.toString());
+
+        String noEmojis = "Hello World";
+        Assert.assertSame(noEmojis, EmojiManager.replaceAllEmojis(noEmojis, emoji -> ""));
+        Assert.assertSame(noEmojis, EmojiManager.removeAllEmojis(noEmojis));
+    }
+
+    @Test
+    public void replaceAllEmojisWithFunctionKeepsEmojisMappedToNull() throws IOException {
+        String text = "👍 hi 😄";
+        Assert.assertEquals("[thumbs up] hi 😄", EmojiManager.replaceAllEmojis(text, emoji -> emoji.getEmoji().equals("👍") ? "[thumbs up]" : null));
+        Assert.assertSame(text, EmojiManager.replaceAllEmojis(text, emoji -> null));
+
+        StringBuilder sb = new StringBuilder();
+        EmojiManager.replaceAllEmojis(text, emoji -> null, sb);
+        Assert.assertEquals(text, sb.toString());
+    }
+
+    @Test(expected = IOException.class)
+    public void replaceAllEmojisPassesAppendableException() throws IOException {
+        EmojiManager.replaceAllEmojis("hi 👍", Emoji::getHtmlDecimalCode, new Appendable() {
+            @Override
+            public Appendable append(final CharSequence csq) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public Appendable append(final char c) throws IOException {
+                throw new IOException();
+            }
+        });
+    }
+
+    @Test
+    public void replaceAliases() {
+        Assert.assertEquals("👍 hi 😄", EmojiManager.replaceAliases(":thumbsup: hi :smile:"));
+        Assert.assertEquals("👋🏻 :unknown: 👋:", EmojiManager.replaceAliases(":wave::skin-tone-1: :unknown: :wave::", AliasGroup.DISCORD));
+        Assert.assertEquals(":thumbsup: hi", EmojiManager.replaceAliases(":thumbsup: hi", AliasGroup.SLACK));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void replaceAliasesWithNullAliasGroup() {
+        EmojiManager.replaceAliases(":thumbsup: hi", null);
+    }
+
+    @Test
+    public void normalizeSkinTones() {
+        Assert.assertEquals("👍 hi 👋 👨‍🦱 😀", EmojiManager.normalizeSkinTones("👍🏻 hi 👋🏿 👨🏿‍🦱 😀", Optional.empty()));
+        Assert.assertEquals("👍🏽 hi 👋🏽 👨🏽‍🦱 😀", EmojiManager.normalizeSkinTones("👍🏻 hi 👋 👨🏿‍🦱 😀", Optional.of(Fitzpatrick.MEDIUM_SKIN)));
+        Assert.assertEquals("🧑🏿‍🤝‍🧑🏿", EmojiManager.normalizeSkinTones("🧑🏻‍🤝‍🧑🏿", Optional.of(Fitzpatrick.DARK_SKIN)));
+        String noVariants = "hi 😀";
+        Assert.assertSame(noVariants, EmojiManager.normalizeSkinTones(noVariants, Optional.empty()));
+    }
+
+    @Test
+    public void normalizeHairStyles() {
+        Assert.assertEquals("👨 👩🏿 👍", EmojiManager.normalizeHairStyles("👨‍🦰 👩🏿‍🦲 👍", Optional.empty()));
+        Assert.assertEquals("👨‍🦱 👩🏿‍🦱 👍", EmojiManager.normalizeHairStyles("👨‍🦰 👩🏿 👍", Optional.of(HairStyle.CURLY_HAIR)));
+    }
+
+    @Test
+    public void replaceEmojisWithAliases() {
+        Assert.assertEquals(":thumbsup: hi :smile:", EmojiManager.replaceEmojisWithAliases("👍 hi 😄", AliasGroup.DISCORD));
+        Assert.assertEquals(":+1: hi :smile:", EmojiManager.replaceEmojisWithAliases("👍 hi 😄", AliasGroup.GITHUB));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void replaceEmojisWithAliasesWithNullAliasGroup() {
+        EmojiManager.replaceEmojisWithAliases("hi", null);
+    }
+}
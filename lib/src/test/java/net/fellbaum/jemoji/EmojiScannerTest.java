@@ -0,0 +1,64 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EmojiScannerTest {
+
+    private static final String TEXT = "Hello 👨‍👩‍👧‍👦 World 🇩🇪 1️⃣ 👨🏿‍🦱 ❤️ end";
+
+    @Test
+    public void findMatchesExtractEmojisInOrder() throws IOException {
+        final String text = EmojiManagerTest.ALL_EMOJIS_STRING + TEXT + EmojiManagerTest.ALL_EMOJIS_STRING;
+        final List<Emoji> emojis = new ArrayList<>();
+        try (EmojiScanner scanner = new EmojiScanner(new StringReader(text), 64)) {
+            while (scanner.find()) {
+                emojis.add(scanner.getEmoji());
+                assertEquals(scanner.getEmoji().getEmoji(), text.substring((int) scanner.getStart(), (int) scanner.getEnd()));
+            }
+        }
+        assertEquals(EmojiManager.extractEmojisInOrder(text), emojis);
+    }
+
+    @Test
+    public void findEmojiAcrossChunkBoundary() throws IOException {
+        // Place the family emoji at every offset relative to the chunk border
+        for (int prefixLength = 0; prefixLength < 100; prefixLength++) {
+            final StringBuilder text = new StringBuilder();
+            for (int i = 0; i < prefixLength; i++) text.append('a');
+            text.append("👨‍👩‍👧‍👦");
+
+            try (EmojiScanner scanner = new EmojiScanner(new StringReader(text.toString()), 1)) {
+                assertTrue(scanner.find());
+                assertEquals("👨‍👩‍👧‍👦", scanner.getEmoji().getEmoji());
+                assertEquals(prefixLength, scanner.getStart());
+                assertEquals(text.length(), scanner.getEnd());
+                assertFalse(scanner.find());
+            }
+        }
+    }
+
+    @Test
+    public void findInUtf8InputStream() throws IOException {
+        final List<Emoji> emojis = new ArrayList<>();
+        try (EmojiScanner scanner = new EmojiScanner(new ByteArrayInputStream(TEXT.getBytes(StandardCharsets.UTF_8)))) {
+            while (scanner.find()) {
+                emojis.add(scanner.getEmoji());
+            }
+        }
+        assertEquals(EmojiManager.extractEmojisInOrder(TEXT), emojis);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getEmojiWithoutMatch() {
+        new EmojiScanner(new StringReader(TEXT)).getEmoji();
+    }
+}
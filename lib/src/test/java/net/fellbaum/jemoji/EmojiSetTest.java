@@ -0,0 +1,72 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class EmojiSetTest {
+
+    private static final Emoji THUMBS_UP = EmojiManager.getEmoji("👍").orElseThrow(RuntimeException::new);
+    private static final Emoji HEART = EmojiManager.getEmoji("❤️").orElseThrow(RuntimeException::new);
+    private static final Emoji SMILE = EmojiManager.getEmoji("😄").orElseThrow(RuntimeException::new);
+
+    @Test
+    public void of() {
+        final EmojiSet emojiSet = EmojiSet.of(THUMBS_UP, HEART, THUMBS_UP);
+
+        assertEquals(2, emojiSet.size());
+        assertTrue(emojiSet.contains(THUMBS_UP));
+        assertTrue(emojiSet.contains(HEART));
+        assertFalse(emojiSet.contains(SMILE));
+        assertFalse(emojiSet.contains("👍"));
+        assertEquals(new HashSet<>(Arrays.asList(THUMBS_UP, HEART)), emojiSet);
+        assertEquals(emojiSet, new HashSet<>(Arrays.asList(THUMBS_UP, HEART)));
+        assertEquals(new HashSet<>(Arrays.asList(THUMBS_UP, HEART)).hashCode(), emojiSet.hashCode());
+        assertTrue(EmojiSet.of().isEmpty());
+    }
+
+    @Test
+    public void iteratesInIdOrder() {
+        final Set<Emoji> allEmojis = EmojiManager.getAllEmojis();
+
+        int previousId = -1;
+        for (final Emoji emoji : allEmojis) {
+            assertTrue(emoji.getId() > previousId);
+            previousId = emoji.getId();
+        }
+        assertEquals(allEmojis.size(), previousId + 1);
+    }
+
+    @Test
+    public void setOperations() {
+        final EmojiSet first = EmojiSet.of(THUMBS_UP, HEART);
+        final EmojiSet second = EmojiSet.of(HEART, SMILE);
+
+        assertEquals(EmojiSet.of(THUMBS_UP, HEART, SMILE), first.union(second));
+        assertEquals(EmojiSet.of(HEART), first.intersection(second));
+        assertEquals(EmojiSet.of(THUMBS_UP), first.difference(second));
+        assertEquals(1, first.intersectionSize(second));
+        assertTrue(first.union(second).containsAll(first));
+        assertFalse(first.containsAll(second));
+        assertEquals(EmojiSet.of(), first.difference(first));
+    }
+
+    @Test
+    public void extractEmojis() {
+        final EmojiSet emojiSet = EmojiManager.extractEmojiSet("👍 hi ❤️ 👍");
+
+        assertEquals(EmojiSet.of(THUMBS_UP, HEART), emojiSet);
+        assertEquals(emojiSet, EmojiManager.extractEmojis("👍 hi ❤️ 👍"));
+        assertTrue(EmojiManager.extractEmojis("👍") instanceof EmojiSet);
+        assertEquals("hi ❤️ ", EmojiManager.removeAllEmojisExcept("👍hi ❤️ 👍", emojiSet.difference(EmojiSet.of(THUMBS_UP))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void isUnmodifiable() {
+        EmojiSet.of(THUMBS_UP).add(HEART);
+    }
+}
@@ -0,0 +1,83 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class EmojiTest {
+
+    @Test
+    public void getVariations() {
+        final Emoji wavingHand = EmojiManager.getEmoji("👋").orElseThrow(RuntimeException::new);
+        final List<Emoji> variations = wavingHand.getVariations();
+        final Set<String> variationEmojis = variations.stream().map(Emoji::getEmoji).collect(Collectors.toSet());
+
+        assertEquals(5, variations.size());
+        assertTrue(variationEmojis.contains("👋🏻"));
+        assertTrue(variationEmojis.contains("👋🏿"));
+        assertFalse(variationEmojis.contains("👋"));
+        assertSame(variations, wavingHand.getVariations());
+
+        final Emoji darkWavingHand = EmojiManager.getEmoji("👋🏿").orElseThrow(RuntimeException::new);
+        assertTrue(darkWavingHand.getVariations().contains(wavingHand));
+    }
+
+    @Test
+    public void getVariationsWithHairStyle() {
+        final Emoji man = EmojiManager.getEmoji("👨").orElseThrow(RuntimeException::new);
+        final Set<String> variationEmojis = man.getVariations().stream().map(Emoji::getEmoji).collect(Collectors.toSet());
+
+        assertTrue(variationEmojis.contains("👨🏿‍🦱"));
+        assertTrue(variationEmojis.contains("👨‍🦰"));
+    }
+
+    @Test
+    public void getVariationsWithoutVariations() {
+        assertTrue(EmojiManager.getEmoji("😀").orElseThrow(RuntimeException::new).getVariations().isEmpty());
+    }
+
+    @Test
+    public void equalsExternallyCreatedEmoji() {
+        final Emoji thumbsUp = EmojiManager.getEmoji("👍").orElseThrow(RuntimeException::new);
+        final Emoji copy = new Emoji(thumbsUp.getEmoji(), thumbsUp.getUnicode(), thumbsUp.getDiscordAliases(), thumbsUp.getGithubAliases(),
+                thumbsUp.getSlackAliases(), thumbsUp.hasFitzpatrickComponent(), thumbsUp.hasHairStyleComponent(), thumbsUp.getVersion(),
+                thumbsUp.getQualification(), thumbsUp.getDescription(), thumbsUp.getGroup(), thumbsUp.getSubgroup());
+
+        assertEquals(thumbsUp, copy);
+        assertEquals(copy, thumbsUp);
+        assertEquals(thumbsUp.hashCode(), copy.hashCode());
+        assertNotEquals(thumbsUp, EmojiManager.getEmoji("👎").orElseThrow(RuntimeException::new));
+    }
+
+    @Test
+    public void derivedRepresentations() {
+        final Emoji thumbsUp = EmojiManager.getEmoji("👍🏿").orElseThrow(RuntimeException::new);
+
+        assertArrayEquals(new int[]{0x1F44D, 0x1F3FF}, thumbsUp.getCodePoints());
+        assertEquals("&#128077;&#127999;", thumbsUp.getHtmlDecimalCode());
+        assertEquals("&#x1F44D;&#x1F3FF;", thumbsUp.getHtmlHexadecimalCode());
+        assertEquals("%F0%9F%91%8D%F0%9F%8F%BF", thumbsUp.getURLEncoded());
+        assertSame(thumbsUp.getHtmlDecimalCode(), thumbsUp.getHtmlDecimalCode());
+
+        thumbsUp.getCodePoints()[0] = 0;
+        assertEquals(0x1F44D, thumbsUp.getCodePoints()[0]);
+    }
+
+    @Test
+    public void codePointAccessors() {
+        final Emoji thumbsUp = EmojiManager.getEmoji("👍🏿").orElseThrow(RuntimeException::new);
+
+        assertEquals(2, thumbsUp.getCodePointCount());
+        assertEquals(0x1F44D, thumbsUp.getCodePointAt(0));
+        assertEquals(0x1F3FF, thumbsUp.getCodePointAt(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getCodePointAtOutOfBounds() {
+        EmojiManager.getEmoji("👍").orElseThrow(RuntimeException::new).getCodePointAt(1);
+    }
+}
@@ -0,0 +1,70 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class EmojiTrieTest {
+
+    @Test
+    public void findLongestMatchAtRoot() {
+        final Emoji thumbsUp = EmojiManager.getEmoji("👍").orElseThrow(RuntimeException::new);
+        final Emoji heart = EmojiManager.getEmoji("❤️").orElseThrow(RuntimeException::new);
+        final Map<String, Emoji> keyToEmoji = new HashMap<>();
+        keyToEmoji.put("a", heart);
+        keyToEmoji.put("ab", thumbsUp);
+        for (int codePoint = 0x1F600; codePoint < 0x1F640; codePoint++) {
+            keyToEmoji.put(new String(Character.toChars(codePoint)), thumbsUp);
+        }
+        final EmojiTrie trie = new EmojiTrie(keyToEmoji);
+
+        assertEquals(heart, trie.getEmoji(trie.findLongestMatch("ac", 0, 2)));
+        assertEquals(2, trie.getCharLength(trie.findLongestMatch("ab", 0, 2)));
+        assertEquals(EmojiTrie.NO_MATCH, trie.findLongestMatch("b", 0, 1));
+        assertEquals(EmojiTrie.NO_MATCH, trie.findLongestMatch("\uFFFF", 0, 1));
+        for (int codePoint = 0x1F580; codePoint < 0x1F6C0; codePoint++) {
+            final String text = new String(Character.toChars(codePoint));
+            final boolean isKey = codePoint >= 0x1F600 && codePoint < 0x1F640;
+            assertEquals(isKey, trie.findLongestMatch(text, 0, text.length()) != EmojiTrie.NO_MATCH);
+        }
+    }
+
+    @Test
+    public void findNextCandidate() {
+        final EmojiTrie trie = EmojiManager.getEmojiTrie();
+        final String text = "Hello World 中文 👍 #";
+
+        assertEquals(text.indexOf("👍"), trie.findNextCandidate(text, 0, text.length()));
+        assertEquals(text.indexOf('#'), trie.findNextCandidate(text, text.indexOf("👍") + 2, text.length()));
+        assertEquals(5, trie.findNextCandidate("Hello", 0, 5));
+    }
+
+    @Test
+    public void isSafeSplit() {
+        final EmojiTrie trie = EmojiManager.getEmojiTrie();
+        final String text = "a 👨‍👩‍👧 🇩🇪 b";
+
+        assertTrue(trie.isSafeSplit(text, 0));
+        assertTrue(trie.isSafeSplit(text, 1));
+        // 👨 follows other code points in e.g. 👩‍❤️‍👨
+        assertFalse(trie.isSafeSplit(text, text.indexOf("👨")));
+        assertFalse(trie.isSafeSplit(text, text.indexOf("👨") + 1));
+        assertFalse(trie.isSafeSplit(text, text.indexOf("👩")));
+        assertFalse(trie.isSafeSplit(text, text.indexOf("👩") - 1));
+        assertFalse(trie.isSafeSplit(text, text.indexOf("🇪")));
+        assertTrue(trie.isSafeSplit(text, text.indexOf("b")));
+        assertTrue(trie.isSafeSplit(text, text.length()));
+    }
+
+    @Test
+    public void findLongestMatchInEmptyTrie() {
+        final EmojiTrie trie = new EmojiTrie(new HashMap<>());
+
+        assertEquals(EmojiTrie.NO_MATCH, trie.findLongestMatch("a👍", 0, 3));
+        assertEquals(EmojiTrie.NO_MATCH, trie.findLongestMatch("👍", 0, 2));
+        assertEquals(3, trie.findNextCandidate("a👍", 0, 3));
+    }
+}
@@ -0,0 +1,34 @@
+package net.fellbaum.jemoji;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class VectorizedSearchTest {
+
+    // Only 'x' and the high surrogate of 😀 can start a key, the range of the rest of the BMP is empty
+    private static final char[] FIRST_CHAR_RANGES = {'x', 'x', Character.MAX_VALUE, 0, '\uD83D', '\uD83D'};
+    private static final long[] FIRST_CHAR_BITS = new long[1024];
+
+    static {
+        FIRST_CHAR_BITS['x' >>> 6] |= 1L << 'x';
+        FIRST_CHAR_BITS['\uD83D' >>> 6] |= 1L << '\uD83D';
+    }
+
+    @Test
+    public void findNextCandidate() {
+        final char[] chars = new char[1007];
+        Arrays.fill(chars, 'a');
+        assertEquals(chars.length, VectorizedSearch.findNextCandidate(chars, chars.length, FIRST_CHAR_RANGES, FIRST_CHAR_BITS));
+
+        chars[1006] = 'x';
+        assertEquals(1006, VectorizedSearch.findNextCandidate(chars, chars.length, FIRST_CHAR_RANGES, FIRST_CHAR_BITS));
+        assertEquals(1006, VectorizedSearch.findNextCandidate(chars, 1006, FIRST_CHAR_RANGES, FIRST_CHAR_BITS));
+
+        chars[500] = 'ä';
+        chars[700] = '\uD83D';
+        assertEquals(700, VectorizedSearch.findNextCandidate(chars, chars.length, FIRST_CHAR_RANGES, FIRST_CHAR_BITS));
+    }
+}
@@ -0,0 +1,50 @@
+package net.fellbaum.jemoji;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class ShortVectorSearchTest {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final long[] FIRST_CHAR_BITS = new long[1024];
+
+    static {
+        FIRST_CHAR_BITS['x' >>> 6] |= 1L << 'x';
+        FIRST_CHAR_BITS['\uD83D' >>> 6] |= 1L << '\uD83D';
+    }
+
+    @Test
+    public void findNextCandidateInTail() {
+        final char[] firstCharRanges = {'x', 'x', Character.MAX_VALUE, 0, '\uD83D', '\uD83D'};
+        // The last char is behind the loop bound, so it is only checked by the scalar tail loop
+        final int length = SPECIES.loopBound(1000) + SPECIES.length() - 1;
+        final char[] chars = new char[length];
+        Arrays.fill(chars, 'a');
+
+        assertEquals(length, ShortVectorSearch.findNextCandidate(chars, length, firstCharRanges, FIRST_CHAR_BITS));
+        chars[length - 1] = 'x';
+        assertEquals(length - 1, ShortVectorSearch.findNextCandidate(chars, length, firstCharRanges, FIRST_CHAR_BITS));
+        chars[SPECIES.length()] = '\uD83D';
+        assertEquals(SPECIES.length(), ShortVectorSearch.findNextCandidate(chars, length, firstCharRanges, FIRST_CHAR_BITS));
+    }
+
+    @Test
+    public void findNextCandidateWithEmptyRanges() {
+        // Only the range of the high surrogates is not empty, its low is above its high in the other ranges
+        final char[] firstCharRanges = {Character.MAX_VALUE, 0, 'ä', 'ã', '\uD83D', '\uD83D'};
+        final char[] chars = new char[SPECIES.length() * 4];
+        Arrays.fill(chars, Character.MAX_VALUE);
+        chars[0] = 0;
+        chars[1] = 'ã';
+        chars[2] = 'ä';
+
+        assertEquals(chars.length, ShortVectorSearch.findNextCandidate(chars, chars.length, firstCharRanges, FIRST_CHAR_BITS));
+        chars[SPECIES.length() * 2 + 1] = '\uD83D';
+        assertEquals(SPECIES.length() * 2 + 1, ShortVectorSearch.findNextCandidate(chars, chars.length, firstCharRanges, FIRST_CHAR_BITS));
+    }
+}